@@ -1,15 +1,21 @@
 package com.sskkilm.cashflow.config;
 
+import com.sskkilm.cashflow.util.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @Configuration
 public class AppConfiguration {
 
+    // 로그인(DaoAuthenticationProvider)과 회원가입이 같은 인코더를 사용하도록 PasswordEncoder 빈은 하나만 등록
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${cashflow.password.bcrypt-strength:10}") int strength,
+            @Value("${cashflow.password.threads:2}") int threads,
+            @Value("${cashflow.password.queue-capacity:50}") int queueCapacity,
+            @Value("${cashflow.password.timeout-ms:3000}") long timeoutMillis) {
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, timeoutMillis);
     }
 
 }
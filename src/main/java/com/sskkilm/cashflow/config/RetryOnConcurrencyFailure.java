@@ -0,0 +1,31 @@
+package com.sskkilm.cashflow.config;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.*;
+
+// 잠금 대기 시간 초과, 데드락, 버전 충돌(ConcurrencyFailureException)이 발생하면 트랜잭션 전체를 다시 실행
+// 재시도는 트랜잭션 바깥에서 실행되어야 하므로 @Transactional 메소드에 함께 선언 (재시도 advice가 트랜잭션 advice보다 먼저 적용됨)
+// 바깥 트랜잭션에 참여한 호출은 같은 트랜잭션 안에서 다시 실행할 수 없으므로 재시도하지 않고 바깥으로 전달
+// AccountCommandSerializer의 파티션 스레드에서는 재시도 대기가 같은 파티션의 다른 명령을 막으므로 재시도하지 않고,
+// 호출한 스레드에서 기다린 뒤 다시 제출함
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+        retryFor = ConcurrencyFailureException.class,
+        exceptionExpression = "!T(org.springframework.transaction.support.TransactionSynchronizationManager)" +
+                ".isActualTransactionActive()" +
+                " && !T(com.sskkilm.cashflow.service.AccountCommandSerializer).isSerializerThread()",
+        maxAttemptsExpression = "${cashflow.retry.max-attempts:3}",
+        backoff = @Backoff(
+                delayExpression = "${cashflow.retry.delay-ms:20}",
+                maxDelayExpression = "${cashflow.retry.max-delay-ms:500}",
+                multiplier = 2,
+                random = true
+        )
+)
+public @interface RetryOnConcurrencyFailure {
+}
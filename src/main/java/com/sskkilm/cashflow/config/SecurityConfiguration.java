@@ -2,6 +2,8 @@ package com.sskkilm.cashflow.config;
 
 import com.sskkilm.cashflow.filter.JwtAuthenticationFilter;
 import com.sskkilm.cashflow.filter.LoginFilter;
+import com.sskkilm.cashflow.filter.LoginRateLimiter;
+import com.sskkilm.cashflow.service.TokenRevocationService;
 import com.sskkilm.cashflow.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -21,6 +23,8 @@ public class SecurityConfiguration {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtUtil jwtUtil;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TokenRevocationService tokenRevocationService;
 
     @Bean
     public AuthenticationManager authenticationManager(
@@ -49,11 +53,11 @@ public class SecurityConfiguration {
                         .anyRequest().authenticated());
         // 로그인 필터 전에 jwt 검증 필터 등록
         http
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), LoginFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, tokenRevocationService), LoginFilter.class);
         // 로그인이 성공하면 jwt를 발급해야하므로 UsernamePasswordAuthenticationFilter 자리에
         // 커스텀 필터 등록
         http
-                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil)
+                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, loginRateLimiter)
                         , UsernamePasswordAuthenticationFilter.class);
         // 세션 설정
         http
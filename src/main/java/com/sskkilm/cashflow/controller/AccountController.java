@@ -3,11 +3,15 @@ package com.sskkilm.cashflow.controller;
 import com.sskkilm.cashflow.dto.*;
 import com.sskkilm.cashflow.entity.User;
 import com.sskkilm.cashflow.service.AccountService;
+import com.sskkilm.cashflow.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -15,6 +19,7 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/accounts")
     public CreateAccountDto.Response createAccount(
@@ -40,48 +45,81 @@ public class AccountController {
         return accountService.deleteAccount(accountId, user);
     }
 
+    // 계좌 목록이 바뀌지 않았으면 목록 조회 없이 304 반환 (active, inactive 목록도 같은 버전 사용)
     @GetMapping("/accounts")
     public List<AccountDto> getTotalAccountList(
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(accountService.getAccountListETag(user))) {
+            return null;
+        }
         return accountService.getTotalAccountList(user);
     }
 
     @GetMapping("/accounts/active")
     public List<AccountDto> getActiveAccountList(
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(accountService.getAccountListETag(user))) {
+            return null;
+        }
         return accountService.getActiveAccountList(user);
     }
 
     @GetMapping("/accounts/inactive")
     public List<AccountDto> getInactiveAccountList(
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(accountService.getAccountListETag(user))) {
+            return null;
+        }
         return accountService.getInactiveAccountList(user);
     }
 
     @GetMapping("/accounts/{accountId}")
     public GetAccountDto getAccount(
             @PathVariable Long accountId,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest
     ) {
+        // 잔액이 바뀌지 않았으면 계좌 조회와 응답 직렬화 없이 304 반환
+        if (webRequest.checkNotModified(accountService.getAccountETag(accountId, user))) {
+            return null;
+        }
         return accountService.getAccount(accountId, user);
     }
 
+    @GetMapping("/accounts/{accountId}/summary")
+    public AccountSummaryDto getAccountSummary(
+            @PathVariable Long accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal User user
+    ) {
+        return accountService.getAccountSummary(accountId, user, from, to);
+    }
+
     @PatchMapping("/accounts/deposit")
     public DepositDto.Response deposit(
             @RequestBody @Valid DepositDto.Request request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal User user
     ) {
-        return accountService.deposit(request, user);
+        // 재요청 확인과 키 선점은 요청 스레드에서, 입금과 응답 저장은 계좌 파티션에서 같은 트랜잭션으로 처리
+        return idempotencyService.execute(user.getId(), idempotencyKey, "deposit", request,
+                DepositDto.Response.class, request.accountId(), () -> accountService.deposit(request, user));
     }
 
     @PatchMapping("/accounts/withdraw")
     public WithdrawDto.Response withdraw(
             @RequestBody @Valid WithdrawDto.Request request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal User user
     ) {
-        return accountService.withdraw(request, user);
+        return idempotencyService.execute(user.getId(), idempotencyKey, "withdraw", request,
+                WithdrawDto.Response.class, request.accountId(), () -> accountService.withdraw(request, user));
     }
 }
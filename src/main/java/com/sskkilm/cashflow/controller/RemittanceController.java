@@ -1,8 +1,19 @@
 package com.sskkilm.cashflow.controller;
 
+import com.sskkilm.cashflow.dto.CreateRemittanceBatchDto;
 import com.sskkilm.cashflow.dto.CreateRemittanceDto;
+import com.sskkilm.cashflow.dto.IncomingRemittancePageDto;
+import com.sskkilm.cashflow.dto.RemittanceCursorPageDto;
 import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSliceDto;
+import com.sskkilm.cashflow.dto.RemittanceStatusDto;
 import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.RemittanceExportFormat;
+import com.sskkilm.cashflow.service.IdempotencyService;
+import com.sskkilm.cashflow.service.RemittanceDispatcher;
+import com.sskkilm.cashflow.service.RemittanceExportExecutor;
+import com.sskkilm.cashflow.service.RemittanceExporter;
 import com.sskkilm.cashflow.service.RemittanceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +23,15 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.net.URI;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -23,13 +40,57 @@ import java.time.LocalTime;
 public class RemittanceController {
 
     private final RemittanceService remittanceService;
+    private final IdempotencyService idempotencyService;
+    private final RemittanceDispatcher remittanceDispatcher;
+    private final RemittanceExporter remittanceExporter;
+    private final RemittanceExportExecutor remittanceExportExecutor;
 
     @PostMapping("/remittances")
     public CreateRemittanceDto.Response createRemittance(
             @RequestBody @Valid CreateRemittanceDto.Request request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal User user
     ) {
-        return remittanceService.createRemittance(request, user);
+        // 수금 계좌 입금은 ledgerService.transfer에서 원장 분개만 추가하고 계좌를 잠그지 않으므로 송금 계좌 파티션에서만 실행
+        // 재요청 확인과 키 선점은 요청 스레드에서, 송금과 응답 저장은 계좌 파티션에서 같은 트랜잭션으로 처리
+        return idempotencyService.execute(user.getId(), idempotencyKey, "remittance", request,
+                CreateRemittanceDto.Response.class, request.accountId(),
+                () -> remittanceService.createRemittance(request, user));
+    }
+
+    // 요청을 접수만 하고 202를 반환, 처리 결과는 /remittances/status/{remittanceRequestId}로 확인
+    @PostMapping(value = "/remittances", params = "async=true")
+    public ResponseEntity<RemittanceStatusDto> createRemittanceAsync(
+            @RequestBody @Valid CreateRemittanceDto.Request request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal User user
+    ) {
+        RemittanceStatusDto accepted = idempotencyService.execute(user.getId(), idempotencyKey,
+                "remittance-async", request, RemittanceStatusDto.class,
+                () -> remittanceDispatcher.submit(() -> remittanceService.acceptRemittance(request, user)));
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/remittances/status/" + accepted.remittanceRequestId()))
+                .body(accepted);
+    }
+
+    @GetMapping("/remittances/status/{remittanceRequestId}")
+    public RemittanceStatusDto getRemittanceStatus(
+            @PathVariable Long remittanceRequestId,
+            @AuthenticationPrincipal User user
+    ) {
+        return remittanceService.getRemittanceStatus(remittanceRequestId, user);
+    }
+
+    // 여러 계좌가 섞인 일괄 송금은 하나의 트랜잭션으로 처리하므로 계좌별 파티션을 거치지 않음
+    @PostMapping("/remittances/batch")
+    public CreateRemittanceBatchDto.Response createRemittances(
+            @RequestBody @Valid CreateRemittanceBatchDto.Request request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal User user
+    ) {
+        return idempotencyService.execute(user.getId(), idempotencyKey, "remittance-batch", request,
+                CreateRemittanceBatchDto.Response.class, () -> remittanceService.createRemittances(request, user));
     }
 
     @GetMapping("/remittances/{accountId}")
@@ -38,11 +99,31 @@ public class RemittanceController {
                     size = 30, sort = "createdAt", direction = Sort.Direction.DESC
             ) Pageable pageable,
             @PathVariable Long accountId,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest
     ) {
+        // 새 송금이 없으면 이력 조회 없이 304 반환
+        if (webRequest.checkNotModified(remittanceService.getRemittanceListETag(accountId, user))) {
+            return null;
+        }
         return remittanceService.getRemittanceList(pageable, accountId, user);
     }
 
+    // 커서 기반 조회, 첫 페이지는 after를 비워서 요청하고 이후에는 응답의 nextCursor를 그대로 전달
+    @GetMapping(value = "/remittances/{accountId}", params = "after")
+    public RemittanceCursorPageDto getRemittanceList(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "30") int size,
+            @PathVariable Long accountId,
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(remittanceService.getRemittanceListETag(accountId, user))) {
+            return null;
+        }
+        return remittanceService.getRemittanceList(after, size, accountId, user);
+    }
+
     @GetMapping(value = "/remittances/{accountId}", params = {"startDate", "endDate"})
     public Page<RemittanceDto> getRemittanceList(
             @PageableDefault(
@@ -57,4 +138,60 @@ public class RemittanceController {
                 pageable, accountId, user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)
         );
     }
+
+    // total=rollup이면 COUNT 쿼리 대신 일별 송금 집계로 전체 건수를 계산
+    @GetMapping(value = "/remittances/{accountId}", params = {"startDate", "endDate", "total=rollup"})
+    public RemittanceSliceDto getRemittanceSlice(
+            @PageableDefault(
+                    size = 30, sort = "createdAt", direction = Sort.Direction.DESC
+            ) Pageable pageable,
+            @PathVariable Long accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal User user
+    ) {
+        return remittanceService.getRemittanceSlice(
+                pageable, accountId, user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)
+        );
+    }
+
+    // 이 계좌로 들어온 송금을 커서 방식으로 조회, 첫 페이지는 after 없이 요청
+    @GetMapping("/remittances/{accountId}/incoming")
+    public IncomingRemittancePageDto getIncomingRemittanceList(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "30") int size,
+            @PathVariable Long accountId,
+            @AuthenticationPrincipal User user
+    ) {
+        return remittanceService.getIncomingRemittanceList(after, size, accountId, user);
+    }
+
+    // 금액 범위(minAmount, maxAmount), 상대 계좌번호 앞자리(counterparty), 방향(direction)으로 검색
+    @GetMapping("/remittances/{accountId}/search")
+    public RemittanceSearchDto.Response searchRemittances(
+            @Valid RemittanceSearchDto.Request request,
+            @PathVariable Long accountId,
+            @AuthenticationPrincipal User user
+    ) {
+        return remittanceService.searchRemittances(request, accountId, user);
+    }
+
+    // 전체 송금 이력을 NDJSON 또는 CSV로 응답 스트림에 바로 기록
+    // 내보내기 전용 스레드 풀에서 실행하며, 풀이 가득 차면 503
+    @GetMapping("/remittances/{accountId}/export")
+    public ResponseEntity<ResponseBodyEmitter> exportRemittances(
+            @PathVariable Long accountId,
+            @RequestParam(defaultValue = "NDJSON") RemittanceExportFormat format,
+            @AuthenticationPrincipal User user
+    ) {
+        remittanceExporter.checkAccountOwner(accountId, user);
+        MediaType contentType = MediaType.parseMediaType(format.getContentType());
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=remittances-" + accountId + "." + format.getExtension())
+                .body(remittanceExportExecutor.submit(contentType,
+                        outputStream -> remittanceExporter.export(accountId, format, outputStream)));
+    }
 }
@@ -0,0 +1,33 @@
+package com.sskkilm.cashflow.controller;
+
+import com.sskkilm.cashflow.dto.StatementDto;
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.service.StatementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@RestController
+@RequiredArgsConstructor
+public class StatementController {
+
+    private final StatementService statementService;
+
+    // 사용자의 모든 계좌 송금 내역을 최신순으로 합쳐서 커서 방식으로 조회, 첫 페이지는 after 없이 요청
+    @GetMapping("/statements")
+    public StatementDto getStatement(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "30") int size,
+            @AuthenticationPrincipal User user
+    ) {
+        return statementService.getStatement(after, size, user, from.atStartOfDay(), to.atTime(LocalTime.MAX));
+    }
+}
@@ -1,9 +1,12 @@
 package com.sskkilm.cashflow.controller;
 
 import com.sskkilm.cashflow.dto.JoinDto;
+import com.sskkilm.cashflow.service.TokenRevocationService;
 import com.sskkilm.cashflow.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/users/join")
     public JoinDto.Response createUser(
@@ -21,4 +25,10 @@ public class UserController {
         return userService.createUser(request);
     }
 
+    // 요청에 사용된 토큰을 만료 시각까지 폐기
+    @PostMapping("/users/logout")
+    public void logout(Authentication authentication) {
+        tokenRevocationService.revoke((Claims) authentication.getDetails());
+    }
+
 }
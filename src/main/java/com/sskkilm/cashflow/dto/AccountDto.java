@@ -1,6 +1,5 @@
 package com.sskkilm.cashflow.dto;
 
-import com.sskkilm.cashflow.entity.Account;
 import com.sskkilm.cashflow.enums.AccountStatus;
 import lombok.Builder;
 
@@ -11,12 +10,5 @@ public record AccountDto(
         Integer balance,
         AccountStatus status
 ) {
-    public static AccountDto fromEntity(Account account) {
-        return AccountDto.builder()
-                .accountId(account.getId())
-                .accountNumber(account.getAccountNumber())
-                .balance(account.getBalance())
-                .status(account.getStatus())
-                .build();
-    }
+
 }
@@ -0,0 +1,8 @@
+package com.sskkilm.cashflow.dto;
+
+public record AccountNumberDto(
+        Long accountId,
+        String accountNumber
+) {
+
+}
@@ -0,0 +1,30 @@
+package com.sskkilm.cashflow.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record AccountSummaryDto(
+        Long accountId,
+        LocalDate from,
+        LocalDate to,
+        Long remittanceCount,
+        Long sentAmount,
+        Long receivedAmount,
+        Integer minBalanceSnapshot,
+        Integer maxBalanceSnapshot
+) {
+    public static AccountSummaryDto of(Long accountId, LocalDate from, LocalDate to, RemittanceRollupDto rollup) {
+        return AccountSummaryDto.builder()
+                .accountId(accountId)
+                .from(from)
+                .to(to)
+                .remittanceCount(rollup.remittanceCount())
+                .sentAmount(rollup.sentAmount())
+                .receivedAmount(rollup.receivedAmount())
+                .minBalanceSnapshot(rollup.minBalanceSnapshot())
+                .maxBalanceSnapshot(rollup.maxBalanceSnapshot())
+                .build();
+    }
+}
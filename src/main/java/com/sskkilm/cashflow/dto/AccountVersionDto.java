@@ -0,0 +1,25 @@
+package com.sskkilm.cashflow.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 계좌 상태와 잔액이 바뀌면 함께 바뀌는 값만 모은 계좌 버전, 조건부 조회(ETag)에 사용
+// 계좌 row 버전(상태 변경, 스냅샷 갱신)과 스냅샷 이후 분개 수, 마지막 분개 id로 구성
+public record AccountVersionDto(
+        Long accountId,
+        Long userId,
+        Long version,
+        Long tailCount,
+        Long lastLedgerEntryId
+) {
+    // 계좌 목록의 ETag, 계좌가 추가되거나 삭제되어도 값이 바뀜
+    public static String eTagOf(List<AccountVersionDto> accountVersions) {
+        return accountVersions.stream()
+                .map(AccountVersionDto::eTag)
+                .collect(Collectors.joining(".", "accounts-", ""));
+    }
+
+    public String eTag() {
+        return accountId + "-" + version + "-" + tailCount + "-" + lastLedgerEntryId;
+    }
+}
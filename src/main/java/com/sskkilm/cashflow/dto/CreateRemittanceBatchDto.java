@@ -0,0 +1,62 @@
+package com.sskkilm.cashflow.dto;
+
+import com.sskkilm.cashflow.enums.ErrorCode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+public class CreateRemittanceBatchDto {
+    public record Request(
+            @NotEmpty
+            @Size(max = 500, message = "한 번에 최대 500건까지 송금할 수 있습니다.")
+            List<@Valid CreateRemittanceDto.Request> remittances
+    ) {
+
+    }
+
+    @Builder
+    public record Response(
+            int successCount,
+            int failureCount,
+            List<Result> results
+    ) {
+        public static Response of(List<Result> results) {
+            int successCount = (int) results.stream().filter(Result::success).count();
+            return Response.builder()
+                    .successCount(successCount)
+                    .failureCount(results.size() - successCount)
+                    .results(results)
+                    .build();
+        }
+    }
+
+    @Builder
+    public record Result(
+            int index,
+            boolean success,
+            CreateRemittanceDto.Response remittance,
+            // Idempotency-Key 재요청시 저장된 응답을 다시 읽을 수 있도록 ErrorCode 대신 이름을 저장
+            String errorCode,
+            String message
+    ) {
+        public static Result success(int index, CreateRemittanceDto.Response remittance) {
+            return Result.builder()
+                    .index(index)
+                    .success(true)
+                    .remittance(remittance)
+                    .build();
+        }
+
+        public static Result failure(int index, ErrorCode errorCode) {
+            return Result.builder()
+                    .index(index)
+                    .success(false)
+                    .errorCode(errorCode.toString())
+                    .message(errorCode.getMessage())
+                    .build();
+        }
+    }
+}
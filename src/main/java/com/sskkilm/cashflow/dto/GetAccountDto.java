@@ -15,11 +15,11 @@ public record GetAccountDto(
         LocalDateTime createdAt,
         LocalDateTime modifiedAt
 ) {
-    public static GetAccountDto fromEntity(Account account) {
+    public static GetAccountDto fromEntity(Account account, Integer balance) {
         return GetAccountDto.builder()
                 .accountId(account.getId())
                 .accountNumber(account.getAccountNumber())
-                .balance(account.getBalance())
+                .balance(balance)
                 .status(account.getStatus())
                 .createdAt(account.getCreatedAt())
                 .modifiedAt(account.getModifiedAt())
@@ -0,0 +1,15 @@
+package com.sskkilm.cashflow.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+// 수금 계좌 기준 송금 내역, 송금 계좌의 잔액은 노출하지 않음
+@Builder
+public record IncomingRemittanceDto(
+        String sendingAccountNumber,
+        Integer remittanceAmount,
+        LocalDateTime createdAt
+) {
+
+}
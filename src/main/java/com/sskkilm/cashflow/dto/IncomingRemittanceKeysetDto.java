@@ -0,0 +1,24 @@
+package com.sskkilm.cashflow.dto;
+
+import java.time.LocalDateTime;
+
+// 받은 송금 커서 조회용, 다음 커서를 만들기 위해 remittanceId를 함께 조회
+// 송금 계좌가 삭제된 경우 sendingAccountNumber는 null
+public record IncomingRemittanceKeysetDto(
+        Long remittanceId,
+        String sendingAccountNumber,
+        Integer amount,
+        LocalDateTime createdAt
+) {
+    public IncomingRemittanceDto toIncomingRemittanceDto() {
+        return IncomingRemittanceDto.builder()
+                .sendingAccountNumber(sendingAccountNumber)
+                .remittanceAmount(amount)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public RemittanceCursor toCursor() {
+        return new RemittanceCursor(createdAt, remittanceId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sskkilm.cashflow.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record IncomingRemittancePageDto(
+        List<IncomingRemittanceDto> content,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,11 @@
+package com.sskkilm.cashflow.dto;
+
+// 잔액 스냅샷에 반영되지 않은 분개의 합계
+public record LedgerTailDto(
+        Long accountId,
+        Long lastEntryId,
+        Long amount,
+        Long entryCount
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.sskkilm.cashflow.dto;
+
+import com.sskkilm.cashflow.enums.AccountStatus;
+
+public record ReceivingAccountDto(
+        Long accountId,
+        AccountStatus status
+) {
+
+}
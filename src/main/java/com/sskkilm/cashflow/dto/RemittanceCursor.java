@@ -0,0 +1,36 @@
+package com.sskkilm.cashflow.dto;
+
+import com.sskkilm.cashflow.enums.RemittanceErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 마지막으로 조회한 송금 내역의 (createdAt, remittanceId)를 클라이언트에게는 불투명한 문자열로 전달
+public record RemittanceCursor(
+        LocalDateTime createdAt,
+        Long remittanceId
+) {
+    private static final String DELIMITER = ",";
+
+    public static RemittanceCursor decode(String cursor) {
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(DELIMITER);
+            if (values.length != 2) {
+                throw new CustomException(RemittanceErrorCode.INVALID_REMITTANCE_CURSOR);
+            }
+            return new RemittanceCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(RemittanceErrorCode.INVALID_REMITTANCE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = createdAt + DELIMITER + remittanceId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
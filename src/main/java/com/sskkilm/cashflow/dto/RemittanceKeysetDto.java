@@ -0,0 +1,25 @@
+package com.sskkilm.cashflow.dto;
+
+import java.time.LocalDateTime;
+
+// 커서 조회용 송금 내역, 다음 커서를 만들기 위해 remittanceId를 함께 조회
+public record RemittanceKeysetDto(
+        Long remittanceId,
+        String receivingAccountNumber,
+        Integer amount,
+        Integer accountBalanceSnapshot,
+        LocalDateTime createdAt
+) {
+    public RemittanceDto toRemittanceDto() {
+        return RemittanceDto.builder()
+                .receivingAccountNumber(receivingAccountNumber)
+                .remittanceAmount(amount)
+                .accountBalanceSnapshot(accountBalanceSnapshot)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public RemittanceCursor toCursor() {
+        return new RemittanceCursor(createdAt, remittanceId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sskkilm.cashflow.dto;
+
+// 기간 내 일별 송금 집계의 합계
+public record RemittanceRollupDto(
+        Long remittanceCount,
+        Long sentAmount,
+        Long receivedAmount,
+        Integer minBalanceSnapshot,
+        Integer maxBalanceSnapshot
+) {
+
+}
@@ -0,0 +1,45 @@
+package com.sskkilm.cashflow.dto;
+
+import com.sskkilm.cashflow.enums.RemittanceDirection;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class RemittanceSearchDto {
+    // counterparty는 상대 계좌번호 앞자리, direction이 없으면 보낸 송금을 검색
+    public record Request(
+            RemittanceDirection direction,
+            @Min(0)
+            Integer minAmount,
+            @Min(0)
+            Integer maxAmount,
+            String counterparty,
+            String after,
+            Integer size
+    ) {
+        public RemittanceDirection directionOrDefault() {
+            return direction == null ? RemittanceDirection.SENT : direction;
+        }
+    }
+
+    @Builder
+    public record Response(
+            List<Entry> content,
+            boolean hasNext,
+            String nextCursor
+    ) {
+    }
+
+    // 받은 송금은 송금 계좌의 잔액을 노출하지 않으므로 accountBalanceSnapshot이 null
+    @Builder
+    public record Entry(
+            RemittanceDirection direction,
+            String counterpartyAccountNumber,
+            Integer remittanceAmount,
+            Integer accountBalanceSnapshot,
+            LocalDateTime createdAt
+    ) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.sskkilm.cashflow.dto;
+
+import com.sskkilm.cashflow.enums.RemittanceDirection;
+
+import java.time.LocalDateTime;
+
+// 송금 이력 검색 결과, 다음 커서를 만들기 위해 remittanceId를 함께 조회
+public record RemittanceSearchKeysetDto(
+        Long remittanceId,
+        String counterpartyAccountNumber,
+        Integer amount,
+        Integer accountBalanceSnapshot,
+        LocalDateTime createdAt
+) {
+    public RemittanceSearchDto.Entry toEntry(RemittanceDirection direction) {
+        return RemittanceSearchDto.Entry.builder()
+                .direction(direction)
+                .counterpartyAccountNumber(counterpartyAccountNumber)
+                .remittanceAmount(amount)
+                .accountBalanceSnapshot(direction == RemittanceDirection.SENT ? accountBalanceSnapshot : null)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public RemittanceCursor toCursor() {
+        return new RemittanceCursor(createdAt, remittanceId);
+    }
+}
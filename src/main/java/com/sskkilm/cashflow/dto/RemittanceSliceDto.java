@@ -0,0 +1,26 @@
+package com.sskkilm.cashflow.dto;
+
+import lombok.Builder;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+// 전체 건수는 일별 집계 기준이므로 조회 도중 추가된 송금에 따라 content와 약간 다를 수 있음
+@Builder
+public record RemittanceSliceDto(
+        List<RemittanceDto> content,
+        int number,
+        int size,
+        boolean hasNext,
+        long totalElements
+) {
+    public static RemittanceSliceDto of(Slice<RemittanceDto> slice, long totalElements) {
+        return RemittanceSliceDto.builder()
+                .content(slice.getContent())
+                .number(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .totalElements(totalElements)
+                .build();
+    }
+}
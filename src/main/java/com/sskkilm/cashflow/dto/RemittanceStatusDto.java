@@ -0,0 +1,30 @@
+package com.sskkilm.cashflow.dto;
+
+import com.sskkilm.cashflow.entity.RemittanceRequest;
+import com.sskkilm.cashflow.enums.RemittanceRequestStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record RemittanceStatusDto(
+        Long remittanceRequestId,
+        RemittanceRequestStatus status,
+        Long remittanceId,
+        String errorCode,
+        String message,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+    public static RemittanceStatusDto fromEntity(RemittanceRequest remittanceRequest) {
+        return RemittanceStatusDto.builder()
+                .remittanceRequestId(remittanceRequest.getId())
+                .status(remittanceRequest.getStatus())
+                .remittanceId(remittanceRequest.getRemittanceId())
+                .errorCode(remittanceRequest.getErrorCode())
+                .message(remittanceRequest.getErrorMessage())
+                .createdAt(remittanceRequest.getCreatedAt())
+                .modifiedAt(remittanceRequest.getModifiedAt())
+                .build();
+    }
+}
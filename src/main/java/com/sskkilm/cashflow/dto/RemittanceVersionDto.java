@@ -0,0 +1,20 @@
+package com.sskkilm.cashflow.dto;
+
+// 계좌의 송금 이력 버전, 조건부 조회(ETag)에 사용
+// 송금 이력은 추가만 되고 수정되지 않으므로 송금 건수와 마지막 송금 id가 같으면 이력도 같음
+public record RemittanceVersionDto(
+        Long remittanceCount,
+        Long lastRemittanceId
+) {
+    // hot/cold 구간의 버전을 합침, 두 구간은 경계로 나뉘므로 같은 송금이 두번 세어지지 않음
+    public RemittanceVersionDto plus(RemittanceVersionDto other) {
+        return new RemittanceVersionDto(
+                remittanceCount + other.remittanceCount,
+                Math.max(lastRemittanceId, other.lastRemittanceId)
+        );
+    }
+
+    public String eTag() {
+        return remittanceCount + "-" + lastRemittanceId;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sskkilm.cashflow.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record StatementDto(
+        List<StatementEntryDto> content,
+        boolean hasNext,
+        String nextCursor
+) {
+}
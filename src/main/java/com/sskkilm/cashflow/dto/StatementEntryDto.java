@@ -0,0 +1,17 @@
+package com.sskkilm.cashflow.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+// 통합 거래내역의 한 건, 여러 계좌가 섞이므로 송금 계좌번호를 함께 전달
+@Builder
+public record StatementEntryDto(
+        String accountNumber,
+        String receivingAccountNumber,
+        Integer remittanceAmount,
+        Integer accountBalanceSnapshot,
+        LocalDateTime createdAt
+) {
+
+}
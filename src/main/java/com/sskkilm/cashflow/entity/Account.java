@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_accountNumber", columnNames = "account_number")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Account {
     @Id
@@ -21,6 +24,7 @@ public class Account {
     @Column(name = "account_id")
     private Long id;
     private String accountNumber;
+    // compacted로 표시된 분개가 반영된 잔액 스냅샷 (실제 잔액은 LedgerService.balanceOf)
     private Integer balance;
     @Enumerated(EnumType.STRING)
     private AccountStatus status;
@@ -31,16 +35,14 @@ public class Account {
     private LocalDateTime createdAt;
     @LastModifiedDate
     private LocalDateTime modifiedAt;
+    @Version
+    private Long version;
 
     public void inactive() {
         this.status = AccountStatus.INACTIVE;
     }
 
-    public void deposit(Integer depositAmount) {
-        this.balance += depositAmount;
-    }
-
-    public void withdraw(Integer withdrawAmount) {
-        this.balance -= withdrawAmount;
+    public void snapshot(Integer balance) {
+        this.balance = balance;
     }
 }
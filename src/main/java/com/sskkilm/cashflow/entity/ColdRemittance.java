@@ -0,0 +1,34 @@
+package com.sskkilm.cashflow.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// hot 보관 기간이 지난 월 파티션의 송금 이력을 옮겨두는 조회 전용 테이블 (RemittancePartitionManager가 채움)
+// 계좌 삭제 후에도 이력이 남도록 계좌와 연관관계를 맺지 않음
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@Table(name = "remittance_cold", indexes = {
+        @Index(name = "idx_cold_account_createdAt", columnList = "account_id, created_at DESC, remittance_id DESC"),
+        @Index(name = "idx_cold_receivingAccount_createdAt",
+                columnList = "receiving_account_id, created_at DESC, remittance_id DESC")
+})
+public class ColdRemittance {
+    @Id
+    @Column(name = "remittance_id")
+    private Long id;
+    private String receivingAccountNumber;
+    @Column(name = "receiving_account_id")
+    private Long receivingAccountId;
+    private Integer amount;
+    private Integer accountBalanceSnapshot;
+    @Column(name = "account_id")
+    private Long accountId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,35 @@
+package com.sskkilm.cashflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 계좌의 일별 송금 집계
+// 보낸 송금(건수, 금액, 송금 후 잔액 최소/최대)은 송금 계좌를 잠근 송금 트랜잭션에서 함께 갱신
+// 받은 송금 금액은 수금 계좌를 잠그지 않도록 DailyRemittanceRollupAggregator가 원장의 송금 입금 분개를 읽어 비동기로 갱신
+// 기간 조회의 전체 건수와 계좌 요약을 송금 이력 대신 기간 내 일수만큼의 row 합으로 계산
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_remittanceDate", columnNames = {"account_id", "remittance_date"})
+})
+public class DailyRemittanceRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_remittance_rollup_id")
+    private Long id;
+    @Column(name = "account_id")
+    private Long accountId;
+    @Column(name = "remittance_date")
+    private LocalDate remittanceDate;
+    private Long remittanceCount;
+    private Long sentAmount;
+    private Long receivedAmount;
+    // 받은 송금만 있는 날은 null
+    private Integer minBalanceSnapshot;
+    private Integer maxBalanceSnapshot;
+}
@@ -0,0 +1,47 @@
+package com.sskkilm.cashflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_idempotencyKey", columnNames = {"user_id", "idempotency_key"})
+}, indexes = {
+        // 보관 기간이 지난 기록 삭제
+        @Index(name = "idx_createdAt", columnList = "created_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class IdempotencyRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "idempotency_record_id")
+    private Long id;
+    @Column(name = "user_id")
+    private Long userId;
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+    // 요청 종류와 본문의 SHA-256, 같은 키로 다른 요청이 들어오는 것을 막기 위해 사용
+    @Column(length = 64)
+    private String requestHash;
+    // 처리가 끝나기 전까지는 null
+    @Lob
+    private String responseBody;
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    public boolean isCompleted() {
+        return this.responseBody != null;
+    }
+
+    public void complete(String responseBody) {
+        this.responseBody = responseBody;
+    }
+}
@@ -0,0 +1,45 @@
+package com.sskkilm.cashflow.entity;
+
+import com.sskkilm.cashflow.enums.LedgerEntryType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 입금/출금/송금마다 같은 transactionId를 가진 두 개의 분개를 기록하며, 한 거래의 amount 합은 항상 0
+// amount는 해당 계좌 기준 부호 (입금 +, 출금 -), accountId가 null인 분개는 외부 현금 계정
+// 계좌 삭제 후에도 이력이 남도록 계좌와 연관관계를 맺지 않음
+// compacted는 계좌 잔액 스냅샷에 반영된 분개인지 표시, 스냅샷에 반영되지 않은 분개만 잔액 계산에 더함
+// rolledUp은 일별 송금 집계에 반영된 분개인지 표시, 집계할 분개(송금 입금)만 false로 추가
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_account_compacted_ledgerEntry", columnList = "account_id, compacted, ledger_entry_id"),
+        @Index(name = "idx_compacted_account", columnList = "compacted, account_id"),
+        @Index(name = "idx_rolledUp_ledgerEntry", columnList = "rolled_up, ledger_entry_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class LedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_entry_id")
+    private Long id;
+    @Column(length = 36)
+    private String transactionId;
+    @Column(name = "account_id")
+    private Long accountId;
+    @Enumerated(EnumType.STRING)
+    private LedgerEntryType type;
+    private Integer amount;
+    @Builder.Default
+    private boolean compacted = false;
+    @Builder.Default
+    private boolean rolledUp = true;
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -13,15 +13,27 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @Table(indexes = {
-        @Index(name = "idx_account_createdAt", columnList = "account_id, created_at DESC")
+        @Index(name = "idx_account_createdAt", columnList = "account_id, created_at DESC, remittance_id DESC"),
+        @Index(name = "idx_receivingAccount_createdAt",
+                columnList = "receiving_account_id, created_at DESC, remittance_id DESC"),
+        // 송금 이력 검색 (금액 범위, 상대 계좌번호 앞자리)
+        @Index(name = "idx_account_amount", columnList = "account_id, amount"),
+        @Index(name = "idx_account_receivingAccountNumber", columnList = "account_id, receiving_account_number"),
+        @Index(name = "idx_receivingAccount_amount", columnList = "receiving_account_id, amount")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Remittance {
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 불가능하므로 pooled 시퀀스 사용
+    // (MySQL에서는 Hibernate가 remittance_seq 테이블로 시퀀스를 흉내냄)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "remittance_seq")
+    @SequenceGenerator(name = "remittance_seq", sequenceName = "remittance_seq", allocationSize = 50)
     @Column(name = "remittance_id")
     private Long id;
     private String receivingAccountNumber;
+    // 수금 계좌 삭제 후에도 이력이 남도록 연관관계 없이 id만 저장
+    @Column(name = "receiving_account_id")
+    private Long receivingAccountId;
     private Integer amount;
     private Integer accountBalanceSnapshot;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,59 @@
+package com.sskkilm.cashflow.entity;
+
+import com.sskkilm.cashflow.dto.CreateRemittanceDto;
+import com.sskkilm.cashflow.enums.ErrorCode;
+import com.sskkilm.cashflow.enums.RemittanceRequestStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 비동기 송금 요청, 워커가 처리하면 COMPLETED 또는 FAILED로 변경됨
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_status_createdAt", columnList = "status, created_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class RemittanceRequest {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "remittance_request_id")
+    private Long id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+    private Long accountId;
+    private String receivingAccountNumber;
+    private Integer amount;
+    @Enumerated(EnumType.STRING)
+    private RemittanceRequestStatus status;
+    private Long remittanceId;
+    private String errorCode;
+    private String errorMessage;
+    @CreatedDate
+    private LocalDateTime createdAt;
+    @LastModifiedDate
+    private LocalDateTime modifiedAt;
+
+    public CreateRemittanceDto.Request toRemittanceRequest() {
+        return new CreateRemittanceDto.Request(this.accountId, this.receivingAccountNumber, this.amount);
+    }
+
+    public void complete(Remittance remittance) {
+        this.status = RemittanceRequestStatus.COMPLETED;
+        this.remittanceId = remittance.getId();
+    }
+
+    public void fail(ErrorCode errorCode) {
+        this.status = RemittanceRequestStatus.FAILED;
+        this.errorCode = errorCode.toString();
+        this.errorMessage = errorCode.getMessage();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sskkilm.cashflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 로그아웃으로 폐기한 토큰의 jti, 토큰 만료 시각이 지나면 삭제
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_expiresAt", columnList = "expires_at"),
+        @Index(name = "idx_revokedAt", columnList = "revoked_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class RevokedToken {
+    @Id
+    @Column(length = 36)
+    private String jti;
+    private LocalDateTime expiresAt;
+    // 다른 서버가 마지막으로 읽은 뒤에 폐기된 토큰만 읽기 위해 사용
+    @CreatedDate
+    private LocalDateTime revokedAt;
+}
@@ -10,6 +10,11 @@ public enum GlobalErrorCode implements ErrorCode {
 
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key 입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    CONCURRENT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "동시에 처리 중인 요청과 충돌했습니다. 잠시 후 다시 시도해주세요."),
+    OUTCOME_UNKNOWN(HttpStatus.GATEWAY_TIMEOUT, "처리 결과를 확인하지 못했습니다. 같은 Idempotency-Key로 다시 요청하거나 잔액을 확인해주세요."),
     ;
 
     private final HttpStatus status;
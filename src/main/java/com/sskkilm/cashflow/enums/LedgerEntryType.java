@@ -0,0 +1,9 @@
+package com.sskkilm.cashflow.enums;
+
+public enum LedgerEntryType {
+    DEPOSIT,
+    WITHDRAW,
+    REMITTANCE,
+    // 원장 도입 전 잔액을 옮긴 분개 (마이그레이션에서만 생성, 스냅샷에 이미 반영됨)
+    OPENING
+}
@@ -0,0 +1,6 @@
+package com.sskkilm.cashflow.enums;
+
+// 송금 이력 검색 기준 계좌, SENT는 송금 계좌 / RECEIVED는 수금 계좌
+public enum RemittanceDirection {
+    SENT, RECEIVED
+}
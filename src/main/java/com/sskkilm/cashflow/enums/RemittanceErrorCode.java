@@ -11,6 +11,12 @@ public enum RemittanceErrorCode implements ErrorCode {
     REMITTANCE_AND_RECEIVING_ACCOUNT_SAME(HttpStatus.BAD_REQUEST, "송금 계좌와 수금 계좌가 동일합니다."),
     RECEIVING_ACCOUNT_CAN_NOT_USE(HttpStatus.BAD_REQUEST, "수금 계좌가 비활성 상태입니다."),
     REMITTANCE_HISTORY_INQUIRY_PERIOD_LIMITED(HttpStatus.BAD_REQUEST, "송금이력 조회는 시작일부터 최대 1년까지 가능합니다."),
+    REMITTANCE_REQUEST_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 송금 요청입니다."),
+    REMITTANCE_REQUEST_USER_UN_MATCH(HttpStatus.BAD_REQUEST, "송금 요청과 요청자가 다릅니다."),
+    REMITTANCE_HISTORY_SORT_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "보관 기간이 지난 이력이 포함된 조회는 최신순 정렬만 가능합니다."),
+    INVALID_REMITTANCE_AMOUNT_RANGE(HttpStatus.BAD_REQUEST, "최소 금액이 최대 금액보다 큽니다."),
+    INVALID_REMITTANCE_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 송금 이력 커서입니다."),
+    REMITTANCE_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "송금 처리 중 오류가 발생했습니다."),
     ;
 
     private final HttpStatus status;
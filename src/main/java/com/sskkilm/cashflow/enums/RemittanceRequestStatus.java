@@ -0,0 +1,7 @@
+package com.sskkilm.cashflow.enums;
+
+public enum RemittanceRequestStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
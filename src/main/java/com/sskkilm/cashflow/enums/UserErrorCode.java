@@ -11,6 +11,8 @@ public enum UserErrorCode implements ErrorCode {
     ALREADY_EXIST_USER(HttpStatus.BAD_REQUEST, "이미 존재하는 사용자입니다."),
     LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "로그인 정보가 유효하지 않습니다."),
     USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 사용자입니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    TOKEN_NOT_REVOCABLE(HttpStatus.BAD_REQUEST, "로그아웃할 수 없는 토큰입니다. 다시 로그인해주세요."),
     ;
 
     private final HttpStatus status;
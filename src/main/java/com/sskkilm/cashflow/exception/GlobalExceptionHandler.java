@@ -2,6 +2,7 @@ package com.sskkilm.cashflow.exception;
 
 import com.sskkilm.cashflow.dto.ErrorResponse;
 import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -22,4 +23,19 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(GlobalErrorCode.INVALID_REQUEST, GlobalErrorCode.INVALID_REQUEST.getMessage()));
     }
 
+    // 잠금 대기 시간 초과, 데드락, 버전 충돌이 재시도 후에도 해소되지 않은 경우
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<?> handleConcurrencyFailureException(ConcurrencyFailureException e) {
+        return ResponseEntity.status(GlobalErrorCode.CONCURRENT_UPDATE_CONFLICT.getStatus())
+                .body(new ErrorResponse(GlobalErrorCode.CONCURRENT_UPDATE_CONFLICT,
+                        GlobalErrorCode.CONCURRENT_UPDATE_CONFLICT.getMessage()));
+    }
+
+    // 회원가입 등 로그인 외 요청에서 비밀번호 해시 작업이 거절된 경우
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<?> handlePasswordHashingRejectedException(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(GlobalErrorCode.SERVER_BUSY.getStatus())
+                .body(new ErrorResponse(GlobalErrorCode.SERVER_BUSY, GlobalErrorCode.SERVER_BUSY.getMessage()));
+    }
+
 }
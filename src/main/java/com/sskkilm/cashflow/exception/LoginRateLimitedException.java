@@ -0,0 +1,11 @@
+package com.sskkilm.cashflow.exception;
+
+import org.springframework.security.core.AuthenticationException;
+
+// 로그인 시도 횟수 제한에 걸린 경우, unsuccessfulAuthentication에서 429로 응답
+public class LoginRateLimitedException extends AuthenticationException {
+
+    public LoginRateLimitedException(String message) {
+        super(message);
+    }
+}
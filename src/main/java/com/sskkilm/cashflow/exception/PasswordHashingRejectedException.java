@@ -0,0 +1,12 @@
+package com.sskkilm.cashflow.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// 비밀번호 해시 작업 큐가 가득 찼거나 대기 시간이 초과된 경우
+// 로그인 필터에서 인증 실패(401)가 아닌 서버 과부하(503)로 응답하기 위해 AuthenticationException으로 전달
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
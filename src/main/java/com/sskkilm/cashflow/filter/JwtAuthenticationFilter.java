@@ -1,6 +1,8 @@
 package com.sskkilm.cashflow.filter;
 
+import com.sskkilm.cashflow.service.TokenRevocationService;
 import com.sskkilm.cashflow.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +22,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String TOKEN_HEADER = "Authorization";
     private static final String TOKEN_PREFIX = "Bearer ";
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -27,12 +30,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // token이 null일 경우 회원가입 또는 로그인 로직 수행을 위해 계속 진행
         String token = resolveTokenFromRequest(request);
 
-        // 토큰이 유효하다면
-        if (StringUtils.hasText(token) && !jwtUtil.isExpired(token)) {
-            // jwt로 스프링 시큐리티 인증 토큰 생성
-            Authentication authentication = jwtUtil.getAuthentication(token);
-            // 세션에 사용자 등록
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(token)) {
+            // 서명과 만료 시각을 한번만 검증 (만료되었거나 위조된 토큰은 예외)
+            Claims claims = jwtUtil.verify(token);
+            // 로그아웃으로 폐기된 토큰은 인증하지 않음
+            if (!tokenRevocationService.isRevoked(claims.getId())) {
+                // jwt로 스프링 시큐리티 인증 토큰 생성
+                Authentication authentication = jwtUtil.getAuthentication(claims);
+                // 세션에 사용자 등록
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -3,7 +3,11 @@ package com.sskkilm.cashflow.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sskkilm.cashflow.dto.ErrorResponse;
 import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.ErrorCode;
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
 import com.sskkilm.cashflow.enums.UserErrorCode;
+import com.sskkilm.cashflow.exception.LoginRateLimitedException;
+import com.sskkilm.cashflow.exception.PasswordHashingRejectedException;
 import com.sskkilm.cashflow.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,12 +28,15 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public LoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+    public LoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil,
+                       LoginRateLimiter loginRateLimiter) {
         // 로그인 path 설정
         this.setRequiresAuthenticationRequestMatcher(new AntPathRequestMatcher("/users/login", "POST"));
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @Override
@@ -40,6 +47,12 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         String loginId = obtainUsername(request);
         String password = obtainPassword(request);
 
+        // 시도 횟수를 넘긴 요청은 사용자 조회와 BCrypt 검증 전에 거절
+        // (프록시 뒤에서 운영할 경우 X-Forwarded-For를 신뢰하도록 ForwardedHeaderFilter 설정 필요)
+        if (!loginRateLimiter.tryAcquire(loginId, request.getRemoteAddr())) {
+            throw new LoginRateLimitedException("too many login attempts");
+        }
+
         //스프링 시큐리티에서 username과 password를 검증하기 위해서는 token에 담아야 함
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(loginId, password);
@@ -58,7 +71,8 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
         String role = authorities.iterator().next().getAuthority();
 
-        String token = jwtUtil.createJwt(username, role, 60 * 60 * 1000L);
+        // 이후 요청에서 사용자 조회 없이 principal을 만들 수 있도록 userId와 role을 토큰에 담음
+        String token = jwtUtil.createJwt(principal.getId(), username, role, 60 * 60 * 1000L);
 
         response.addHeader("Authorization", "Bearer " + token);
     }
@@ -69,14 +83,21 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         response.setContentType("application/json");
         response.setCharacterEncoding("utf-8");
 
-        ErrorResponse errorResponse = new ErrorResponse(
-                UserErrorCode.LOGIN_FAILED, UserErrorCode.LOGIN_FAILED.getMessage()
-        );
+        // 시도 횟수 초과(429)나 비밀번호 검증 작업 거절(503)은 인증 실패가 아니므로 구분해서 응답
+        ErrorCode errorCode;
+        if (failed instanceof LoginRateLimitedException) {
+            errorCode = UserErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
+        } else if (failed instanceof PasswordHashingRejectedException) {
+            errorCode = GlobalErrorCode.SERVER_BUSY;
+        } else {
+            errorCode = UserErrorCode.LOGIN_FAILED;
+        }
+        ErrorResponse errorResponse = new ErrorResponse(errorCode, errorCode.getMessage());
 
         ObjectMapper objectMapper = new ObjectMapper();
         String result = objectMapper.writeValueAsString(errorResponse);
 
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setStatus(errorCode.getStatus().value());
         response.getWriter().write(result);
     }
 }
@@ -0,0 +1,89 @@
+package com.sskkilm.cashflow.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로그인 시도를 loginId별, IP별 토큰 버킷으로 제한해서 비밀번호 검증(사용자 조회, BCrypt) 전에 거절
+// 버킷은 "다시 가득 차는 시각" 하나만 AtomicLong으로 저장하고 CAS로 갱신 (GCRA 방식, 잠금 없음)
+// - 토큰 하나를 쓰면 가득 차는 시각이 refill 간격만큼 늦어지고, 지금보다 capacity * refill 이상 늦어지면 거절
+// - 가득 찬 버킷은 없는 것과 같으므로 스케줄러 스레드에서 주기적으로 제거 (요청 스레드에서는 맵 전체를 훑지 않음)
+// - 키 수가 max-keys에 도달하면 새 IP는 거절하고, 새 loginId는 버킷 없이 허용해서 IP 제한에만 맡김
+//   (임의의 loginId를 대량으로 보내 맵을 채워도 다른 사용자의 로그인이 막히지 않도록 함)
+@Component
+public class LoginRateLimiter {
+
+    private final Limit loginIdLimit;
+    private final Limit ipLimit;
+    private final int maxKeys;
+
+    public LoginRateLimiter(@Value("${cashflow.login-rate-limit.login-id-capacity:5}") int loginIdCapacity,
+                            @Value("${cashflow.login-rate-limit.login-id-refill-ms:12000}") long loginIdRefillMillis,
+                            @Value("${cashflow.login-rate-limit.ip-capacity:20}") int ipCapacity,
+                            @Value("${cashflow.login-rate-limit.ip-refill-ms:3000}") long ipRefillMillis,
+                            @Value("${cashflow.login-rate-limit.max-keys:100000}") int maxKeys) {
+        this.loginIdLimit = new Limit(loginIdCapacity, loginIdRefillMillis, true);
+        this.ipLimit = new Limit(ipCapacity, ipRefillMillis, false);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * IP 버킷과 loginId 버킷에서 토큰을 하나씩 꺼낸다.
+     * IP에서 거절되면 loginId 버킷의 토큰은 쓰지 않는다.
+     */
+    public boolean tryAcquire(String loginId, String ip) {
+        long now = System.nanoTime();
+        return ipLimit.tryAcquire(ip, now) && (loginId == null || loginIdLimit.tryAcquire(loginId, now));
+    }
+
+    @Scheduled(fixedDelayString = "${cashflow.login-rate-limit.eviction-interval-ms:10000}")
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        loginIdLimit.evictFullBuckets(now);
+        ipLimit.evictFullBuckets(now);
+    }
+
+    private final class Limit {
+        private final long refillNanos;
+        private final long burstNanos;
+        // 키 수가 가득 찼을 때 새 키를 허용할지 여부
+        private final boolean failOpen;
+        private final ConcurrentMap<String, AtomicLong> fullAt = new ConcurrentHashMap<>();
+
+        private Limit(int capacity, long refillMillis, boolean failOpen) {
+            this.refillNanos = TimeUnit.MILLISECONDS.toNanos(refillMillis);
+            this.burstNanos = refillNanos * capacity;
+            this.failOpen = failOpen;
+        }
+
+        private boolean tryAcquire(String key, long now) {
+            AtomicLong bucket = fullAt.get(key);
+            if (bucket == null) {
+                if (fullAt.size() >= maxKeys) {
+                    return failOpen;
+                }
+                bucket = fullAt.computeIfAbsent(key, k -> new AtomicLong(now));
+            }
+
+            while (true) {
+                long current = bucket.get();
+                long next = Math.max(current, now) + refillNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (bucket.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        private void evictFullBuckets(long now) {
+            fullAt.values().removeIf(bucket -> bucket.get() - now <= 0);
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package com.sskkilm.cashflow.repository;
 
+import com.sskkilm.cashflow.dto.AccountDto;
+import com.sskkilm.cashflow.dto.AccountNumberDto;
+import com.sskkilm.cashflow.dto.AccountVersionDto;
+import com.sskkilm.cashflow.dto.ReceivingAccountDto;
 import com.sskkilm.cashflow.entity.Account;
 import com.sskkilm.cashflow.entity.User;
 import com.sskkilm.cashflow.enums.AccountStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +25,90 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     boolean existsByAccountNumber(String accountNumber);
 
-    List<Account> findAllByUserOrderByCreatedAt(User user);
+    // 통합 거래내역은 계좌 id와 계좌번호만 사용하므로 엔티티 대신 두 컬럼만 조회
+    @Query("Select new com.sskkilm.cashflow.dto.AccountNumberDto(a.id, a.accountNumber) " +
+            "from Account a Where a.user = :user " +
+            "Order By a.id")
+    List<AccountNumberDto> findAccountNumbersByUser(@Param("user") User user);
 
-    List<Account> findAllByUserAndStatusOrderByCreatedAt(User user, AccountStatus status);
+    // 계좌 목록은 엔티티 대신 DTO로 바로 조회하고, 잔액은 스냅샷에 이후 분개 합을 더해 같은 쿼리에서 계산
+    @Query("Select new com.sskkilm.cashflow.dto.AccountDto(" +
+            "a.id, a.accountNumber, cast(a.balance + coalesce(sum(e.amount), 0) as Integer), a.status) " +
+            "from Account a left join LedgerEntry e on e.accountId = a.id And e.compacted = false " +
+            "Where a.user = :user " +
+            "Group By a.id " +
+            "Order By a.createdAt")
+    List<AccountDto> findAccountDtosByUser(@Param("user") User user);
 
-    Optional<Account> findByAccountNumber(String accountNumber);
+    @Query("Select new com.sskkilm.cashflow.dto.AccountDto(" +
+            "a.id, a.accountNumber, cast(a.balance + coalesce(sum(e.amount), 0) as Integer), a.status) " +
+            "from Account a left join LedgerEntry e on e.accountId = a.id And e.compacted = false " +
+            "Where a.user = :user And a.status = :status " +
+            "Group By a.id " +
+            "Order By a.createdAt")
+    List<AccountDto> findAccountDtosByUserAndStatus(@Param("user") User user, @Param("status") AccountStatus status);
+
+    // 조건부 조회용 계좌 버전, 스냅샷에 반영되지 않은 분개만 (account_id, compacted, ledger_entry_id) 인덱스로 집계
+    @Query("Select new com.sskkilm.cashflow.dto.AccountVersionDto(" +
+            "a.id, a.user.id, a.version, count(e), coalesce(max(e.id), 0L)) " +
+            "from Account a left join LedgerEntry e on e.accountId = a.id And e.compacted = false " +
+            "Where a.user = :user " +
+            "Group By a.id " +
+            "Order By a.id")
+    List<AccountVersionDto> findAccountVersionsByUser(@Param("user") User user);
+
+    @Query("Select new com.sskkilm.cashflow.dto.AccountVersionDto(" +
+            "a.id, a.user.id, a.version, count(e), coalesce(max(e.id), 0L)) " +
+            "from Account a left join LedgerEntry e on e.accountId = a.id And e.compacted = false " +
+            "Where a.id = :accountId " +
+            "Group By a.id")
+    Optional<AccountVersionDto> findAccountVersionById(@Param("accountId") Long accountId);
+
+    @Query("Select new com.sskkilm.cashflow.dto.ReceivingAccountDto(a.id, a.status) " +
+            "from Account a Where a.accountNumber = :accountNumber")
+    Optional<ReceivingAccountDto> findReceivingAccountByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("Select new com.sskkilm.cashflow.dto.ReceivingAccountDto(a.id, a.status) " +
+            "from Account a Where a.id = :accountId")
+    Optional<ReceivingAccountDto> findReceivingAccountById(@Param("accountId") Long accountId);
+
+    @Query("Select cast(a.balance + coalesce(sum(e.amount), 0) as Integer) " +
+            "from Account a left join LedgerEntry e on e.accountId = a.id And e.compacted = false " +
+            "Where a.id = :accountId " +
+            "Group By a.id")
+    Optional<Integer> findBalanceById(@Param("accountId") Long accountId);
+
+    // 소유주, 상태, 스냅샷 잔액을 조건으로 한 문장에서 확인하고 차감 (계좌를 먼저 조회하거나 잠그지 않음)
+    @Modifying
+    @Query("Update Account a Set a.balance = a.balance - :amount, a.version = a.version + 1 " +
+            "Where a.id = :accountId And a.user.id = :userId And a.status = :status " +
+            "And a.balance >= :amount")
+    int debitSnapshot(
+            @Param("accountId") Long accountId,
+            @Param("userId") Long userId,
+            @Param("status") AccountStatus status,
+            @Param("amount") Integer amount
+    );
+
+    // 스냅샷이 부족한 경우 스냅샷에 반영되지 않은 분개까지 더한 잔액을 조건으로 차감
+    @Modifying
+    @Query("Update Account a Set a.balance = a.balance - :amount, a.version = a.version + 1 " +
+            "Where a.id = :accountId And a.user.id = :userId And a.status = :status " +
+            "And a.balance + (Select coalesce(sum(e.amount), 0) from LedgerEntry e " +
+            "Where e.accountId = a.id And e.compacted = false) >= :amount")
+    int debitBalance(
+            @Param("accountId") Long accountId,
+            @Param("userId") Long userId,
+            @Param("status") AccountStatus status,
+            @Param("amount") Integer amount
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("Select a from Account a Where a.id = :accountId")
+    Optional<Account> findByIdForUpdate(@Param("accountId") Long accountId);
+
+    // 여러 계좌를 한 트랜잭션에서 잠글 때 데드락 방지를 위해 account_id 오름차순으로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("Select a from Account a Where a.id in :accountIds Order By a.id")
+    List<Account> findAllByIdForUpdate(@Param("accountIds") Collection<Long> accountIds);
 }
@@ -0,0 +1,129 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.dto.IncomingRemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.dto.RemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceVersionDto;
+import com.sskkilm.cashflow.entity.ColdRemittance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+// RemittanceRepository의 조회 쿼리와 같은 모양으로 cold 테이블을 조회
+// cold 테이블에는 cold가 되기 전에 미리 복사된 경계 이후 이력도 있으므로, 모든 조회는 기간이나 cursor로 cold 경계 이전으로 제한
+@Repository
+public interface ColdRemittanceRepository extends JpaRepository<ColdRemittance, Long>, ColdRemittanceSearchRepository {
+
+    @Query(value = "Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from ColdRemittance r Where r.accountId = :accountId " +
+            "And r.createdAt Between :startDate And :endDate",
+            countQuery = "Select count(r) from ColdRemittance r Where r.accountId = :accountId " +
+                    "And r.createdAt Between :startDate And :endDate")
+    Page<RemittanceDto> findAllByAccountIdAndCreatedAt(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from ColdRemittance r Where r.accountId = :accountId " +
+            "And r.createdAt Between :startDate And :endDate")
+    Slice<RemittanceDto> findSliceByAccountIdAndCreatedAt(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceVersionDto(count(r), coalesce(max(r.id), 0L)) " +
+            "from ColdRemittance r Where r.accountId = :accountId And r.createdAt < :before")
+    RemittanceVersionDto findVersion(
+            @Param("accountId") Long accountId,
+            @Param("before") LocalDateTime before
+    );
+
+    @Query("Select count(r) from ColdRemittance r Where r.accountId = :accountId " +
+            "And r.createdAt >= :startDate And r.createdAt < :endDate")
+    long countSegment(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from ColdRemittance r Where r.accountId = :accountId " +
+            "And r.createdAt >= :startDate And r.createdAt < :endDate " +
+            "Order By r.createdAt Desc, r.id Desc " +
+            "Limit :limit Offset :offset")
+    List<RemittanceDto> findSegment(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("offset") long offset,
+            @Param("limit") int limit
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceKeysetDto(" +
+            "r.id, r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from ColdRemittance r Where r.accountId = :accountId " +
+            "And (r.createdAt < :createdAt Or (r.createdAt = :createdAt And r.id < :remittanceId)) " +
+            "Order By r.createdAt Desc, r.id Desc")
+    List<RemittanceKeysetDto> findAllByAccountIdAfter(
+            @Param("accountId") Long accountId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("remittanceId") Long remittanceId,
+            Pageable pageable
+    );
+
+    // 기간이 정해진 커서 조회 (통합 거래내역)
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceKeysetDto(" +
+            "r.id, r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from ColdRemittance r Where r.accountId = :accountId And r.createdAt >= :since " +
+            "And (r.createdAt < :createdAt Or (r.createdAt = :createdAt And r.id < :remittanceId)) " +
+            "Order By r.createdAt Desc, r.id Desc")
+    List<RemittanceKeysetDto> findAllByAccountIdAfter(
+            @Param("accountId") Long accountId,
+            @Param("since") LocalDateTime since,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("remittanceId") Long remittanceId,
+            Pageable pageable
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.IncomingRemittanceKeysetDto(" +
+            "r.id, a.accountNumber, r.amount, r.createdAt) " +
+            "from ColdRemittance r left join Account a on a.id = r.accountId " +
+            "Where r.receivingAccountId = :accountId " +
+            "And (r.createdAt < :createdAt Or (r.createdAt = :createdAt And r.id < :remittanceId)) " +
+            "Order By r.createdAt Desc, r.id Desc")
+    List<IncomingRemittanceKeysetDto> findIncomingByAccountIdAfter(
+            @Param("accountId") Long accountId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("remittanceId") Long remittanceId,
+            Pageable pageable
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from ColdRemittance r Where r.accountId = :accountId And r.createdAt < :before " +
+            "Order By r.createdAt Desc, r.id Desc")
+    Stream<RemittanceDto> streamAllByAccountId(
+            @Param("accountId") Long accountId,
+            @Param("before") LocalDateTime before
+    );
+}
@@ -0,0 +1,13 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+
+import java.util.List;
+
+public interface ColdRemittanceSearchRepository {
+    List<RemittanceSearchKeysetDto> search(
+            Long accountId, RemittanceSearchDto.Request condition, RemittanceCursor cursor, int limit
+    );
+}
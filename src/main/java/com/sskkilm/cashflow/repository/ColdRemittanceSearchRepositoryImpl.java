@@ -0,0 +1,50 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+import com.sskkilm.cashflow.entity.Account;
+import com.sskkilm.cashflow.entity.ColdRemittance;
+import com.sskkilm.cashflow.enums.RemittanceDirection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// cold 테이블에는 검색용 인덱스를 따로 두지 않으므로 계좌별 (account_id | receiving_account_id, created_at) 인덱스를
+// 최신순으로 읽으면서 나머지 조건을 거름, 범위는 항상 cursor(최대 cold 경계)로 제한됨
+// cold 이력은 계좌와 연관관계가 없으므로 받은 송금의 상대 계좌번호는 송금 계좌 id로 서브쿼리 조회
+@RequiredArgsConstructor
+public class ColdRemittanceSearchRepositoryImpl implements ColdRemittanceSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<RemittanceSearchKeysetDto> search(
+            Long accountId, RemittanceSearchDto.Request condition, RemittanceCursor cursor, int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RemittanceSearchKeysetDto> query = cb.createQuery(RemittanceSearchKeysetDto.class);
+        Root<ColdRemittance> r = query.from(ColdRemittance.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Expression<String> counterparty;
+        if (condition.directionOrDefault() == RemittanceDirection.RECEIVED) {
+            Subquery<String> sender = query.subquery(String.class);
+            Root<Account> account = sender.from(Account.class);
+            sender.select(account.get("accountNumber"))
+                    .where(cb.equal(account.get("id"), r.get("accountId")));
+            predicates.add(cb.equal(r.get("receivingAccountId"), accountId));
+            counterparty = sender;
+        } else {
+            predicates.add(cb.equal(r.get("accountId"), accountId));
+            counterparty = r.get("receivingAccountNumber");
+        }
+
+        return RemittanceSearchQuery.execute(
+                entityManager, query, r, predicates, counterparty, condition, cursor, limit
+        );
+    }
+}
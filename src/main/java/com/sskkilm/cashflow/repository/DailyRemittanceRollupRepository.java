@@ -0,0 +1,63 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.dto.RemittanceRollupDto;
+import com.sskkilm.cashflow.entity.DailyRemittanceRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface DailyRemittanceRollupRepository extends JpaRepository<DailyRemittanceRollup, Long> {
+
+    // 해당 일자의 집계 row가 없으면 생성, 있으면 보낸 송금 집계만 갱신
+    @Modifying
+    @Query(value = "Insert Into daily_remittance_rollup (account_id, remittance_date, remittance_count, " +
+            "sent_amount, received_amount, min_balance_snapshot, max_balance_snapshot) " +
+            "Values (:accountId, :remittanceDate, 1, :amount, 0, :balanceSnapshot, :balanceSnapshot) " +
+            "On Duplicate Key Update remittance_count = remittance_count + 1, " +
+            "sent_amount = sent_amount + :amount, " +
+            "min_balance_snapshot = least(coalesce(min_balance_snapshot, :balanceSnapshot), :balanceSnapshot), " +
+            "max_balance_snapshot = greatest(coalesce(max_balance_snapshot, :balanceSnapshot), :balanceSnapshot)",
+            nativeQuery = true)
+    void addSent(
+            @Param("accountId") Long accountId,
+            @Param("remittanceDate") LocalDate remittanceDate,
+            @Param("amount") Integer amount,
+            @Param("balanceSnapshot") Integer balanceSnapshot
+    );
+
+    @Modifying
+    @Query(value = "Insert Into daily_remittance_rollup (account_id, remittance_date, remittance_count, " +
+            "sent_amount, received_amount) " +
+            "Values (:accountId, :remittanceDate, 0, 0, :amount) " +
+            "On Duplicate Key Update received_amount = received_amount + :amount",
+            nativeQuery = true)
+    void addReceived(
+            @Param("accountId") Long accountId,
+            @Param("remittanceDate") LocalDate remittanceDate,
+            @Param("amount") Long amount
+    );
+
+    @Query("Select coalesce(sum(r.remittanceCount), 0) from DailyRemittanceRollup r " +
+            "Where r.accountId = :accountId And r.remittanceDate Between :startDate And :endDate")
+    long sumRemittanceCount(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceRollupDto(" +
+            "coalesce(sum(r.remittanceCount), 0), coalesce(sum(r.sentAmount), 0), " +
+            "coalesce(sum(r.receivedAmount), 0), min(r.minBalanceSnapshot), max(r.maxBalanceSnapshot)) " +
+            "from DailyRemittanceRollup r " +
+            "Where r.accountId = :accountId And r.remittanceDate Between :startDate And :endDate")
+    RemittanceRollupDto sumRollup(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
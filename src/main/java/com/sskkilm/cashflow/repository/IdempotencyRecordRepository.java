@@ -0,0 +1,44 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.entity.IdempotencyRecord;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // 명령을 실행하는 동안 선점 기록을 잠가서 만료된 선점 삭제와 겹치지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("Select r from IdempotencyRecord r Where r.id = :id")
+    Optional<IdempotencyRecord> findByIdForUpdate(@Param("id") Long id);
+
+    // 응답이 저장되지 않은(명령이 커밋되지 않은) 선점만 삭제
+    @Transactional
+    @Modifying
+    @Query("Delete from IdempotencyRecord r Where r.id = :id And r.responseBody Is Null")
+    int deleteReservation(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("Delete from IdempotencyRecord r " +
+            "Where r.id = :id And r.responseBody Is Null And r.createdAt < :createdBefore")
+    int deleteAbandonedReservation(@Param("id") Long id, @Param("createdBefore") LocalDateTime createdBefore);
+
+    // 보관 기간이 지난 기록을 limit개씩 삭제, 한 번에 지우면 긴 트랜잭션으로 잠금과 undo log가 커지므로 나누어 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "Delete From idempotency_record Where created_at < :createdBefore Limit :limit",
+            nativeQuery = true)
+    int deleteExpired(@Param("createdBefore") LocalDateTime createdBefore, @Param("limit") int limit);
+}
@@ -0,0 +1,48 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.dto.LedgerTailDto;
+import com.sskkilm.cashflow.entity.LedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    // 스냅샷에 반영되지 않은 분개의 합계
+    @Query("Select new com.sskkilm.cashflow.dto.LedgerTailDto(e.accountId, max(e.id), sum(e.amount), count(e)) " +
+            "from LedgerEntry e " +
+            "Where e.accountId = :accountId And e.compacted = false " +
+            "Group By e.accountId")
+    Optional<LedgerTailDto> findTail(@Param("accountId") Long accountId);
+
+    // 스냅샷에 반영할 분개, 이 조회에서 보인(커밋된) 분개만 반영하고 각 분개를 compacted로 표시
+    @Query("Select e from LedgerEntry e " +
+            "Where e.accountId = :accountId And e.compacted = false " +
+            "Order By e.id")
+    List<LedgerEntry> findUncompacted(@Param("accountId") Long accountId, Pageable pageable);
+
+    @Modifying
+    @Query("Update LedgerEntry e Set e.compacted = true Where e.id in :ids")
+    int markCompacted(@Param("ids") Collection<Long> ids);
+
+    // 스냅샷에 반영되지 않은 분개만 (compacted, account_id) 인덱스로 범위 조회
+    @Query("Select distinct e.accountId from LedgerEntry e " +
+            "Where e.compacted = false And e.accountId Is Not Null")
+    List<Long> findAccountIdsToCompact(Pageable pageable);
+
+    // 일별 송금 집계에 반영할 분개, 이 조회에서 보인(커밋된) 분개만 반영하고 각 분개를 rolledUp으로 표시
+    @Query("Select e from LedgerEntry e Where e.rolledUp = false Order By e.id")
+    List<LedgerEntry> findNotRolledUp(Pageable pageable);
+
+    @Modifying
+    @Query("Update LedgerEntry e Set e.rolledUp = true Where e.id in :ids")
+    int markRolledUp(@Param("ids") Collection<Long> ids);
+}
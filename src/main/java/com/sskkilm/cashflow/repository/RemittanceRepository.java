@@ -1,28 +1,152 @@
 package com.sskkilm.cashflow.repository;
 
+import com.sskkilm.cashflow.dto.IncomingRemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.dto.RemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceVersionDto;
 import com.sskkilm.cashflow.entity.Account;
 import com.sskkilm.cashflow.entity.Remittance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface RemittanceRepository extends JpaRepository<Remittance, Long> {
-    Slice<Remittance> findAllByAccount(Account account, Pageable pageable);
+public interface RemittanceRepository extends JpaRepository<Remittance, Long>, RemittanceSearchRepository {
+    // 이력 조회는 엔티티와 연관 프록시를 만들지 않고 DTO로 바로 조회
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from Remittance r Where r.account = :account And r.createdAt >= :since")
+    Slice<RemittanceDto> findAllByAccount(
+            @Param("account") Account account,
+            @Param("since") LocalDateTime since,
+            Pageable pageable
+    );
+
+    @Query(value = "Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from Remittance r Where r.account = :account " +
+            "And r.createdAt Between :startDate And :endDate",
+            countQuery = "Select count(r) from Remittance r Where r.account = :account " +
+                    "And r.createdAt Between :startDate And :endDate")
+    Page<RemittanceDto> findAllByAccountAndCreatedAt(
+            @Param("account") Account account,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
 
-    @Query("Select r from Remittance r Where r.account = :account " +
+    // 전체 건수는 일별 집계에서 계산하므로 COUNT 쿼리 없이 Slice로 조회
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from Remittance r Where r.account = :account " +
             "And r.createdAt Between :startDate And :endDate")
-    Page<Remittance> findAllByAccountAndCreatedAt(
+    Slice<RemittanceDto> findSliceByAccountAndCreatedAt(
             @Param("account") Account account,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable
     );
 
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 결과를 메모리에 모두 올리지 않고 한 row씩 전달
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from Remittance r Where r.account.id = :accountId And r.createdAt >= :since " +
+            "Order By r.createdAt Desc, r.id Desc")
+    Stream<RemittanceDto> streamAllByAccountId(
+            @Param("accountId") Long accountId,
+            @Param("since") LocalDateTime since
+    );
+
+    // 커서 조회는 (account_id, created_at DESC, remittance_id DESC) 인덱스를 그대로 타도록 정렬 고정
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceKeysetDto(" +
+            "r.id, r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from Remittance r Where r.account.id = :accountId And r.createdAt >= :since " +
+            "Order By r.createdAt Desc, r.id Desc")
+    List<RemittanceKeysetDto> findFirstByAccountId(
+            @Param("accountId") Long accountId,
+            @Param("since") LocalDateTime since,
+            Pageable pageable
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceKeysetDto(" +
+            "r.id, r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from Remittance r Where r.account.id = :accountId And r.createdAt >= :since " +
+            "And (r.createdAt < :createdAt Or (r.createdAt = :createdAt And r.id < :remittanceId)) " +
+            "Order By r.createdAt Desc, r.id Desc")
+    List<RemittanceKeysetDto> findAllByAccountIdAfter(
+            @Param("accountId") Long accountId,
+            @Param("since") LocalDateTime since,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("remittanceId") Long remittanceId,
+            Pageable pageable
+    );
+
+    // 받은 송금은 (receiving_account_id, created_at DESC, remittance_id DESC) 인덱스로 조회
+    @Query("Select new com.sskkilm.cashflow.dto.IncomingRemittanceKeysetDto(" +
+            "r.id, a.accountNumber, r.amount, r.createdAt) " +
+            "from Remittance r left join r.account a " +
+            "Where r.receivingAccountId = :accountId And r.createdAt >= :since " +
+            "Order By r.createdAt Desc, r.id Desc")
+    List<IncomingRemittanceKeysetDto> findFirstIncomingByAccountId(
+            @Param("accountId") Long accountId,
+            @Param("since") LocalDateTime since,
+            Pageable pageable
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.IncomingRemittanceKeysetDto(" +
+            "r.id, a.accountNumber, r.amount, r.createdAt) " +
+            "from Remittance r left join r.account a " +
+            "Where r.receivingAccountId = :accountId And r.createdAt >= :since " +
+            "And (r.createdAt < :createdAt Or (r.createdAt = :createdAt And r.id < :remittanceId)) " +
+            "Order By r.createdAt Desc, r.id Desc")
+    List<IncomingRemittanceKeysetDto> findIncomingByAccountIdAfter(
+            @Param("accountId") Long accountId,
+            @Param("since") LocalDateTime since,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("remittanceId") Long remittanceId,
+            Pageable pageable
+    );
+
+    // 송금 이력 ETag, (account_id, created_at, remittance_id) 인덱스만으로 집계
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceVersionDto(count(r), coalesce(max(r.id), 0L)) " +
+            "from Remittance r Where r.account.id = :accountId And r.createdAt >= :since")
+    RemittanceVersionDto findVersion(
+            @Param("accountId") Long accountId,
+            @Param("since") LocalDateTime since
+    );
+
+    // 기간이 hot/cold 경계에 걸친 경우 hot 구간만 따로 세고 offset, limit으로 잘라서 조회
+    @Query("Select count(r) from Remittance r Where r.account.id = :accountId " +
+            "And r.createdAt >= :startDate And r.createdAt <= :endDate")
+    long countSegment(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    @Query("Select new com.sskkilm.cashflow.dto.RemittanceDto(" +
+            "r.receivingAccountNumber, r.amount, r.accountBalanceSnapshot, r.createdAt) " +
+            "from Remittance r Where r.account.id = :accountId " +
+            "And r.createdAt >= :startDate And r.createdAt <= :endDate " +
+            "Order By r.createdAt Desc, r.id Desc " +
+            "Limit :limit Offset :offset")
+    List<RemittanceDto> findSegment(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("offset") long offset,
+            @Param("limit") int limit
+    );
 }
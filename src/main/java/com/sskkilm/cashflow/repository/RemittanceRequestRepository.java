@@ -0,0 +1,31 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.entity.RemittanceRequest;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RemittanceRequestRepository extends JpaRepository<RemittanceRequest, Long> {
+
+    // 같은 요청이 두 워커에 전달되어도 한번만 처리되도록 잠금 후 PENDING 상태만 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("Select r from RemittanceRequest r join fetch r.user " +
+            "Where r.id in :ids And r.status = com.sskkilm.cashflow.enums.RemittanceRequestStatus.PENDING " +
+            "Order By r.id")
+    List<RemittanceRequest> findPendingByIdsForUpdate(@Param("ids") List<Long> ids);
+
+    @Query("Select r.id from RemittanceRequest r " +
+            "Where r.status = com.sskkilm.cashflow.enums.RemittanceRequestStatus.PENDING " +
+            "And r.createdAt < :createdBefore Order By r.createdAt")
+    List<Long> findPendingIdsCreatedBefore(
+            @Param("createdBefore") LocalDateTime createdBefore, Pageable pageable
+    );
+}
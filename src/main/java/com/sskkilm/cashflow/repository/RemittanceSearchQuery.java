@@ -0,0 +1,70 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// hot(remittance)과 cold(remittance_cold) 검색에 공통인 조건, 정렬, 조회
+// 테이블마다 다른 계좌 조건과 상대 계좌번호 식만 호출하는 쪽에서 만들어서 전달
+final class RemittanceSearchQuery {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private RemittanceSearchQuery() {
+    }
+
+    static List<RemittanceSearchKeysetDto> execute(
+            EntityManager entityManager, CriteriaQuery<RemittanceSearchKeysetDto> query, Root<?> r,
+            List<Predicate> predicates, Expression<String> counterparty,
+            RemittanceSearchDto.Request condition, RemittanceCursor cursor, int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Path<LocalDateTime> createdAt = r.get("createdAt");
+        Path<Long> remittanceId = r.get("id");
+        Path<Integer> amount = r.get("amount");
+
+        List<Predicate> where = new ArrayList<>(predicates);
+        if (condition.minAmount() != null) {
+            where.add(cb.greaterThanOrEqualTo(amount, condition.minAmount()));
+        }
+        if (condition.maxAmount() != null) {
+            where.add(cb.lessThanOrEqualTo(amount, condition.maxAmount()));
+        }
+        if (condition.counterparty() != null && !condition.counterparty().isBlank()) {
+            where.add(cb.like(counterparty, escapeLike(condition.counterparty().strip()) + "%", LIKE_ESCAPE));
+        }
+        if (cursor != null) {
+            where.add(cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(remittanceId, cursor.remittanceId()))
+            ));
+        }
+
+        query.select(cb.construct(RemittanceSearchKeysetDto.class,
+                        remittanceId, counterparty, amount, r.get("accountBalanceSnapshot"), createdAt))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(remittanceId));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 입력한 %, _ 가 와일드카드로 해석되면 앞자리 일치가 아니게 되므로 이스케이프
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RemittanceSearchRepository {
+    List<RemittanceSearchKeysetDto> search(
+            Long accountId, RemittanceSearchDto.Request condition, LocalDateTime since,
+            RemittanceCursor cursor, int limit
+    );
+}
@@ -0,0 +1,53 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+import com.sskkilm.cashflow.entity.Account;
+import com.sskkilm.cashflow.entity.Remittance;
+import com.sskkilm.cashflow.enums.RemittanceDirection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 검색 조건에 따라 쿼리를 조립하되, 항상 계좌 id 동등 조건을 첫 조건으로 두어
+// (account_id | receiving_account_id, ...) 복합 인덱스 중 하나의 범위 탐색이 되도록 함
+// - 보낸 송금: idx_account_createdAt / idx_account_amount / idx_account_receivingAccountNumber
+// - 받은 송금: idx_receivingAccount_createdAt / idx_receivingAccount_amount
+// 상대 계좌번호는 앞자리 일치(LIKE 'prefix%')만 지원해서 인덱스 범위 조건으로 사용
+@RequiredArgsConstructor
+public class RemittanceSearchRepositoryImpl implements RemittanceSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<RemittanceSearchKeysetDto> search(
+            Long accountId, RemittanceSearchDto.Request condition, LocalDateTime since,
+            RemittanceCursor cursor, int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RemittanceSearchKeysetDto> query = cb.createQuery(RemittanceSearchKeysetDto.class);
+        Root<Remittance> r = query.from(Remittance.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Expression<String> counterparty;
+        if (condition.directionOrDefault() == RemittanceDirection.RECEIVED) {
+            // 받은 송금의 상대 계좌는 송금 계좌, 송금 계좌가 삭제된 경우에도 조회되도록 left join
+            Join<Remittance, Account> account = r.join("account", JoinType.LEFT);
+            predicates.add(cb.equal(r.get("receivingAccountId"), accountId));
+            counterparty = account.get("accountNumber");
+        } else {
+            predicates.add(cb.equal(r.get("account").get("id"), accountId));
+            counterparty = r.get("receivingAccountNumber");
+        }
+        predicates.add(cb.greaterThanOrEqualTo(r.get("createdAt"), since));
+
+        return RemittanceSearchQuery.execute(
+                entityManager, query, r, predicates, counterparty, condition, cursor, limit
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.sskkilm.cashflow.repository;
+
+import com.sskkilm.cashflow.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    List<RevokedToken> findAllByExpiresAtAfter(LocalDateTime now);
+
+    List<RevokedToken> findAllByRevokedAtAfterAndExpiresAtAfter(LocalDateTime revokedAfter, LocalDateTime now);
+
+    // 만료된 jti를 limit개씩 삭제, 한 번에 지우면 긴 트랜잭션으로 잠금과 undo log가 커지므로 나누어 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "Delete From revoked_token Where expires_at <= :now Limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
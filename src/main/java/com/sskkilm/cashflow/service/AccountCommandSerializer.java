@@ -0,0 +1,144 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 같은 계좌의 잔액 변경 명령(입금/출금/송금)을 account_id 기준 파티션마다 하나의 스레드에서 순서대로 실행하는 직렬화기
+// 잔액을 메모리에 두거나 나중에 기록하지 않고, 명령은 각자의 DB 트랜잭션으로 커밋된 뒤에 응답함
+// 같은 계좌의 요청이 DB row lock을 기다리며 커넥션과 요청 스레드를 잡고 있는 대신 메모리의 대기열에서 기다리도록 하는 역할만 함
+@Component
+public class AccountCommandSerializer {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final ThreadLocal<Boolean> SERIALIZER_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final ExecutorService[] partitions;
+    private final RetryTemplate retryTemplate;
+
+    public AccountCommandSerializer(@Value("${cashflow.account-serializer.enabled:false}") boolean enabled,
+                                    @Value("${cashflow.account-serializer.partitions:0}") int partitionCount,
+                                    @Value("${cashflow.account-serializer.queue-capacity:1000}") int queueCapacity,
+                                    @Value("${cashflow.account-serializer.timeout-ms:5000}") long timeoutMillis,
+                                    @Value("${cashflow.retry.max-attempts:3}") int maxAttempts,
+                                    @Value("${cashflow.retry.delay-ms:20}") long delayMillis,
+                                    @Value("${cashflow.retry.max-delay-ms:500}") long maxDelayMillis,
+                                    List<RetryListener> retryListeners) {
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+        this.partitions = enabled
+                ? createPartitions(partitionCount > 0 ? partitionCount : Runtime.getRuntime().availableProcessors(),
+                queueCapacity)
+                : new ExecutorService[0];
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(maxAttempts)
+                .exponentialBackoff(delayMillis, 2, maxDelayMillis, true)
+                .retryOn(ConcurrencyFailureException.class)
+                .withListeners(retryListeners)
+                .build();
+    }
+
+    /**
+     * 파티션 스레드에서 실행 중인지 확인한다.
+     * 파티션 스레드에서는 @RetryOnConcurrencyFailure가 재시도하지 않으므로, 재시도 대기로 같은 파티션의 다른 명령이 밀리지 않는다.
+     */
+    public static boolean isSerializerThread() {
+        return SERIALIZER_THREAD.get();
+    }
+
+    /**
+     * accountId가 속한 파티션에서 command를 실행하고 결과를 기다린다.
+     * command는 자체 트랜잭션으로 커밋된 뒤에 반환되므로, 응답을 받은 요청은 서버가 종료되어도 유실되지 않는다.
+     * 동시성 충돌로 실패하면 호출한 스레드에서 재시도 간격만큼 기다린 뒤 대기열에 다시 넣는다.
+     * 시도마다 timeout-ms 안에 끝나지 않거나 기다리는 중 인터럽트되면:
+     * - 아직 시작하지 않은 command는 취소하고 SERVER_BUSY (실행되지 않음이 확실)
+     * - 이미 실행 중인 command는 커밋될 수 있으므로 실패가 아닌 OUTCOME_UNKNOWN
+     */
+    public <T> T execute(Long accountId, Supplier<T> command) {
+        if (!enabled) {
+            return command.get();
+        }
+
+        return retryTemplate.execute(context -> submit(accountId, command));
+    }
+
+    private <T> T submit(Long accountId, Supplier<T> command) {
+        Future<T> future;
+        try {
+            future = partitionOf(accountId).submit(command::get);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException(GlobalErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw outcomeOf(future);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw outcomeOf(future);
+        }
+    }
+
+    // 실행 중인 command는 인터럽트하지 않음 (트랜잭션 중간에 인터럽트해도 커밋 여부를 알 수 없으므로)
+    private CustomException outcomeOf(Future<?> future) {
+        if (future.cancel(false)) {
+            return new CustomException(GlobalErrorCode.SERVER_BUSY);
+        }
+        return new CustomException(GlobalErrorCode.OUTCOME_UNKNOWN);
+    }
+
+    private ExecutorService partitionOf(Long accountId) {
+        return partitions[Math.floorMod(accountId.hashCode(), partitions.length)];
+    }
+
+    private static ExecutorService[] createPartitions(int partitionCount, int queueCapacity) {
+        ExecutorService[] partitions = new ExecutorService[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            String threadName = "account-serializer-" + i;
+            AtomicInteger sequence = new AtomicInteger();
+            partitions[i] = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> new Thread(() -> {
+                        SERIALIZER_THREAD.set(true);
+                        runnable.run();
+                    }, threadName + "-" + sequence.incrementAndGet())
+            );
+        }
+
+        return partitions;
+    }
+
+    // 종료 시 이미 접수된 명령은 모두 처리한 뒤 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+        for (ExecutorService partition : partitions) {
+            partition.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.dto.ReceivingAccountDto;
+import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+// 수금 계좌번호 -> account_id 를 캐시하여 송금시 수금 계좌 조회를 PK 조회로 처리
+// 계좌 상태는 항상 PK 조회로 다시 읽으므로 캐시에는 id만 보관
+// 캐시는 서버마다 따로 있으므로 다른 서버에서 비활성화/삭제된 계좌의 id는 LRU로 밀려날 때까지 남아 있지만,
+// 비활성화는 PK 조회로 다시 읽은 상태로, 삭제는 PK 조회가 비는 것으로 판단하므로 오래된 id로 송금되지 않음
+@Service
+public class AccountNumberResolver {
+
+    private final AccountRepository accountRepository;
+    private final LruCache<String, Long> accountIds;
+
+    public AccountNumberResolver(AccountRepository accountRepository,
+                                 @Value("${cashflow.account-number-cache.size:10000}") int cacheSize) {
+        this.accountRepository = accountRepository;
+        this.accountIds = new LruCache<>(cacheSize);
+    }
+
+    public Optional<ReceivingAccountDto> resolve(String accountNumber) {
+        Long accountId = accountIds.get(accountNumber);
+        if (accountId != null) {
+            Optional<ReceivingAccountDto> receivingAccount = accountRepository.findReceivingAccountById(accountId);
+            if (receivingAccount.isPresent()) {
+                return receivingAccount;
+            }
+            // 다른 서버에서 삭제된 계좌
+            accountIds.remove(accountNumber);
+        }
+
+        Optional<ReceivingAccountDto> receivingAccount =
+                accountRepository.findReceivingAccountByAccountNumber(accountNumber);
+        receivingAccount.ifPresent(account -> accountIds.put(accountNumber, account.accountId()));
+
+        return receivingAccount;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 캐시에서 제거한다.
+     * 커밋 전에 제거하면 그 사이 다른 요청이 아직 커밋되지 않은 변경 전 id를 다시 캐시에 넣을 수 있다.
+     * 롤백되면 제거하지 않는다.
+     */
+    public void evict(String accountNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accountIds.remove(accountNumber);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accountIds.remove(accountNumber);
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.sskkilm.cashflow.service;
 
+import com.sskkilm.cashflow.config.RetryOnConcurrencyFailure;
 import com.sskkilm.cashflow.dto.*;
 import com.sskkilm.cashflow.entity.Account;
 import com.sskkilm.cashflow.entity.User;
@@ -7,19 +8,24 @@ import com.sskkilm.cashflow.enums.AccountErrorCode;
 import com.sskkilm.cashflow.enums.AccountStatus;
 import com.sskkilm.cashflow.exception.CustomException;
 import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.repository.DailyRemittanceRollupRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final LedgerService ledgerService;
+    private final AccountNumberResolver accountNumberResolver;
+    private final DailyRemittanceRollupRepository dailyRemittanceRollupRepository;
     private static final int MAXIMUM_NUMBER_OF_ACCOUNTS = 10;
 
     public CreateAccountDto.Response createAccount(CreateAccountDto.Request request, User user) {
@@ -34,12 +40,18 @@ public class AccountService {
             throw new CustomException(AccountErrorCode.ACCOUNT_CREATION_LIMIT);
         }
 
-        Account account = accountRepository.save(Account.builder()
-                .accountNumber(request.accountNumber())
-                .balance(request.initialBalance())
-                .status(AccountStatus.ACTIVE)
-                .user(user)
-                .build());
+        // 같은 계좌번호로 동시에 생성하는 경우 unique 제약조건으로 하나만 생성됨
+        Account account;
+        try {
+            account = accountRepository.save(Account.builder()
+                    .accountNumber(request.accountNumber())
+                    .balance(request.initialBalance())
+                    .status(AccountStatus.ACTIVE)
+                    .user(user)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_ALREADY_EXISTS);
+        }
 
         return CreateAccountDto.Response.fromEntity(account);
     }
@@ -56,10 +68,12 @@ public class AccountService {
         }
 
         account.inactive();
+        accountNumberResolver.evict(account.getAccountNumber());
 
         return InactiveAccountDto.Response.fromEntity(account);
     }
 
+    @Transactional
     public DeleteAccountDto.Response deleteAccount(Long accountId, User user) {
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
@@ -68,31 +82,27 @@ public class AccountService {
         }
 
         accountRepository.delete(account);
+        accountNumberResolver.evict(account.getAccountNumber());
 
         return DeleteAccountDto.Response.fromEntity(account);
     }
 
+    @Transactional(readOnly = true)
     public List<AccountDto> getTotalAccountList(User user) {
-        List<Account> accountList = accountRepository.findAllByUserOrderByCreatedAt(user);
-
-        return accountList.stream().map(AccountDto::fromEntity)
-                .collect(Collectors.toList());
+        return accountRepository.findAccountDtosByUser(user);
     }
 
+    @Transactional(readOnly = true)
     public List<AccountDto> getActiveAccountList(User user) {
-        List<Account> accountList = accountRepository.findAllByUserAndStatusOrderByCreatedAt(user, AccountStatus.ACTIVE);
-
-        return accountList.stream().map(AccountDto::fromEntity)
-                .collect(Collectors.toList());
+        return accountRepository.findAccountDtosByUserAndStatus(user, AccountStatus.ACTIVE);
     }
 
+    @Transactional(readOnly = true)
     public List<AccountDto> getInactiveAccountList(User user) {
-        List<Account> accountList = accountRepository.findAllByUserAndStatusOrderByCreatedAt(user, AccountStatus.INACTIVE);
-
-        return accountList.stream().map(AccountDto::fromEntity)
-                .collect(Collectors.toList());
+        return accountRepository.findAccountDtosByUserAndStatus(user, AccountStatus.INACTIVE);
     }
 
+    @Transactional(readOnly = true)
     public GetAccountDto getAccount(Long accountId, User user) {
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
@@ -100,9 +110,40 @@ public class AccountService {
             throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
         }
 
-        return GetAccountDto.fromEntity(account);
+        return GetAccountDto.fromEntity(account, ledgerService.balanceOf(account));
+    }
+
+    // 목록 조회 전에 계좌 버전만 조회해서 If-None-Match와 비교
+    @Transactional(readOnly = true)
+    public String getAccountListETag(User user) {
+        return AccountVersionDto.eTagOf(accountRepository.findAccountVersionsByUser(user));
+    }
+
+    @Transactional(readOnly = true)
+    public String getAccountETag(Long accountId, User user) {
+        AccountVersionDto accountVersion = accountRepository.findAccountVersionById(accountId)
+                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        if (!Objects.equals(accountVersion.userId(), user.getId())) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+
+        return accountVersion.eTag();
     }
 
+    // 송금 이력 대신 일별 송금 집계로 기간 요약을 계산 (받은 송금은 원장 반영 후 수 초 늦게 집계됨)
+    @Transactional(readOnly = true)
+    public AccountSummaryDto getAccountSummary(Long accountId, User user, LocalDate from, LocalDate to) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        if (!Objects.equals(account.getUser().getId(), user.getId())) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+
+        return AccountSummaryDto.of(accountId, from, to,
+                dailyRemittanceRollupRepository.sumRollup(accountId, from, to));
+    }
+
+    @RetryOnConcurrencyFailure
     @Transactional
     public DepositDto.Response deposit(DepositDto.Request request, User user) {
         Account account = accountRepository.findById(request.accountId())
@@ -114,39 +155,46 @@ public class AccountService {
             throw new CustomException(AccountErrorCode.ACCOUNT_CAN_NOT_USE);
         }
 
-        Integer balanceBeforeDeposit = account.getBalance();
-        account.deposit(request.depositAmount());
+        // 입금은 원장에 분개만 추가하므로 계좌 row를 잠그지 않음
+        Integer balanceBeforeDeposit = ledgerService.balanceOf(account);
+        ledgerService.deposit(account.getId(), request.depositAmount());
 
         return DepositDto.Response.builder()
                 .accountId(account.getId())
                 .balanceBeforeDeposit(balanceBeforeDeposit)
                 .depositAmount(request.depositAmount())
-                .balanceAfterDeposit(account.getBalance())
+                .balanceAfterDeposit(balanceBeforeDeposit + request.depositAmount())
                 .build();
     }
 
+    @RetryOnConcurrencyFailure
     @Transactional
     public WithdrawDto.Response withdraw(WithdrawDto.Request request, User user) {
-        Account account = accountRepository.findById(request.accountId())
-                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        // 소유주, 상태, 잔액 확인과 차감을 조건부 UPDATE 한 문장으로 처리하고, 실패한 경우에만 계좌를 조회해 원인을 판단
+        Integer balanceAfterWithdraw = ledgerService
+                .withdraw(request.accountId(), user.getId(), request.withdrawAmount())
+                .orElseThrow(() -> debitFailure(request.accountId(), user));
+
+        return WithdrawDto.Response.builder()
+                .accountId(request.accountId())
+                .balanceBeforeWithdraw(balanceAfterWithdraw + request.withdrawAmount())
+                .withdrawAmount(request.withdrawAmount())
+                .balanceAfterWithdraw(balanceAfterWithdraw)
+                .build();
+    }
+
+    private CustomException debitFailure(Long accountId, User user) {
+        Account account = accountRepository.findById(accountId).orElse(null);
+        if (account == null) {
+            return new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND);
+        }
         if (!Objects.equals(account.getUser().getId(), user.getId())) {
-            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+            return new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
         }
         if (account.getStatus() == AccountStatus.INACTIVE) {
-            throw new CustomException(AccountErrorCode.ACCOUNT_CAN_NOT_USE);
+            return new CustomException(AccountErrorCode.ACCOUNT_CAN_NOT_USE);
         }
-        if (account.getBalance() < request.withdrawAmount()) {
-            throw new CustomException(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT);
-        }
-
-        Integer balanceBeforeWithdraw = account.getBalance();
-        account.withdraw(request.withdrawAmount());
 
-        return WithdrawDto.Response.builder()
-                .accountId(account.getId())
-                .balanceBeforeWithdraw(balanceBeforeWithdraw)
-                .withdrawAmount(request.withdrawAmount())
-                .balanceAfterWithdraw(account.getBalance())
-                .build();
+        return new CustomException(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT);
     }
 }
@@ -0,0 +1,36 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.util.ClusterJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 원장의 송금 입금 분개를 수금 계좌의 일별 받은 송금 금액에 주기적으로 반영 (batch-size개마다 별도 트랜잭션)
+// 반영 여부는 분개마다 표시하므로 늦게 커밋된 분개도 다음 주기에 반영되고, 모든 서버 중 잠금을 얻은 서버 하나만 실행
+@Component
+public class DailyRemittanceRollupAggregator {
+
+    private static final String ROLLUP_LOCK = "cashflow.remittance-rollup";
+
+    private final DailyRemittanceRollupService dailyRemittanceRollupService;
+    private final ClusterJobLock clusterJobLock;
+    private final int batchSize;
+
+    public DailyRemittanceRollupAggregator(DailyRemittanceRollupService dailyRemittanceRollupService,
+                                           ClusterJobLock clusterJobLock,
+                                           @Value("${cashflow.remittance-rollup.batch-size:1000}") int batchSize) {
+        this.dailyRemittanceRollupService = dailyRemittanceRollupService;
+        this.clusterJobLock = clusterJobLock;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${cashflow.remittance-rollup.interval-ms:1000}")
+    public void aggregate() {
+        clusterJobLock.runExclusively(ROLLUP_LOCK, () -> {
+            int rolledUp;
+            do {
+                rolledUp = dailyRemittanceRollupService.rollUpReceived(batchSize);
+            } while (rolledUp == batchSize);
+        });
+    }
+}
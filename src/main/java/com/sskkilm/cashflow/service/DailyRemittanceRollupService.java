@@ -0,0 +1,48 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.entity.LedgerEntry;
+import com.sskkilm.cashflow.repository.DailyRemittanceRollupRepository;
+import com.sskkilm.cashflow.repository.LedgerEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class DailyRemittanceRollupService {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final DailyRemittanceRollupRepository dailyRemittanceRollupRepository;
+
+    /**
+     * 이 트랜잭션에서 보이는(커밋된) 송금 입금 분개를 수금 계좌의 일별 받은 송금 금액에 더하고, 더한 분개를 rolledUp으로 표시한다.
+     * 아직 커밋되지 않은 분개는 id가 작더라도 표시되지 않으므로 커밋 후에 다음 집계에 포함된다.
+     * 집계와 표시는 같은 트랜잭션에서 커밋되므로 분개가 빠지거나 두번 더해지지 않는다.
+     * 반영한 분개 수를 반환한다.
+     */
+    @Transactional
+    public int rollUpReceived(int batchSize) {
+        List<LedgerEntry> credits = ledgerEntryRepository.findNotRolledUp(PageRequest.ofSize(batchSize));
+        if (credits.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 계좌, 같은 날짜의 입금은 합쳐서 한번에 갱신 (계좌 순서로 갱신해서 데드락 방지)
+        Map<Long, Map<LocalDate, Long>> receivedAmounts = new TreeMap<>();
+        for (LedgerEntry credit : credits) {
+            receivedAmounts.computeIfAbsent(credit.getAccountId(), accountId -> new TreeMap<>())
+                    .merge(credit.getCreatedAt().toLocalDate(), credit.getAmount().longValue(), Long::sum);
+        }
+        receivedAmounts.forEach((accountId, amounts) -> amounts.forEach((date, amount) ->
+                dailyRemittanceRollupRepository.addReceived(accountId, date, amount)));
+        ledgerEntryRepository.markRolledUp(credits.stream().map(LedgerEntry::getId).toList());
+
+        return credits.size();
+    }
+}
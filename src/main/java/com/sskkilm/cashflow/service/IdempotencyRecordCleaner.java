@@ -0,0 +1,44 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.repository.IdempotencyRecordRepository;
+import com.sskkilm.cashflow.util.ClusterJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 보관 기간(ttl-ms)이 지난 Idempotency-Key 기록을 주기적으로 삭제 (batch-size개마다 별도 트랜잭션)
+// 모든 서버 중 잠금을 얻은 서버 하나만 실행
+@Component
+public class IdempotencyRecordCleaner {
+
+    private static final String CLEANUP_LOCK = "cashflow.idempotency-cleanup";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ClusterJobLock clusterJobLock;
+    private final long ttlMillis;
+    private final int batchSize;
+
+    public IdempotencyRecordCleaner(IdempotencyRecordRepository idempotencyRecordRepository,
+                                    ClusterJobLock clusterJobLock,
+                                    @Value("${cashflow.idempotency.ttl-ms:86400000}") long ttlMillis,
+                                    @Value("${cashflow.idempotency.cleanup-batch-size:1000}") int batchSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.clusterJobLock = clusterJobLock;
+        this.ttlMillis = ttlMillis;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${cashflow.idempotency.cleanup-interval-ms:600000}")
+    public void deleteExpired() {
+        clusterJobLock.runExclusively(CLEANUP_LOCK, () -> {
+            LocalDateTime createdBefore = LocalDateTime.now().minus(ttlMillis, ChronoUnit.MILLIS);
+            int deleted;
+            do {
+                deleted = idempotencyRecordRepository.deleteExpired(createdBefore, batchSize);
+            } while (deleted == batchSize);
+        });
+    }
+}
@@ -0,0 +1,197 @@
+package com.sskkilm.cashflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sskkilm.cashflow.entity.IdempotencyRecord;
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.IdempotencyRecordRepository;
+import com.sskkilm.cashflow.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Idempotency-Key 헤더가 있는 요청은 키를 먼저 선점한 뒤 처리하고, 응답을 저장해 재요청시 그대로 반환
+// 명령과 응답 저장은 IdempotentCommandExecutor에서 같은 트랜잭션으로 커밋되므로
+// 응답이 없는 선점은 명령이 커밋되지 않았다는 뜻이고, reservation-timeout이 지나면 같은 키로 다시 처리할 수 있음
+// 처리가 끝난 응답은 LRU 캐시에도 보관하여 재요청이 DB와 계좌 row를 건드리지 않도록 함
+// 기록은 ttl-ms 동안 보관되며, 그 뒤에는 같은 키가 새 요청으로 처리됨
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotentCommandExecutor idempotentCommandExecutor;
+    private final AccountCommandSerializer accountCommandSerializer;
+    private final ObjectMapper objectMapper;
+    private final LruCache<String, IdempotencyRecord> completedRecords;
+    private final long reservationTimeoutMillis;
+    private final long ttlMillis;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              IdempotentCommandExecutor idempotentCommandExecutor,
+                              AccountCommandSerializer accountCommandSerializer,
+                              ObjectMapper objectMapper,
+                              @Value("${cashflow.idempotency.cache-size:10000}") int cacheSize,
+                              @Value("${cashflow.idempotency.reservation-timeout-ms:60000}") long reservationTimeoutMillis,
+                              @Value("${cashflow.idempotency.ttl-ms:86400000}") long ttlMillis) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.idempotentCommandExecutor = idempotentCommandExecutor;
+        this.accountCommandSerializer = accountCommandSerializer;
+        this.objectMapper = objectMapper;
+        this.completedRecords = new LruCache<>(cacheSize);
+        this.reservationTimeoutMillis = reservationTimeoutMillis;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * command를 호출한 스레드에서 IdempotentCommandExecutor의 트랜잭션 안에서 실행한다.
+     */
+    public <T> T execute(Long userId, String idempotencyKey, String operation, Object request,
+                         Class<T> responseType, Supplier<T> command) {
+        return execute(userId, idempotencyKey, operation, request, responseType, Supplier::get, command);
+    }
+
+    /**
+     * 재요청 확인과 키 선점은 호출한 스레드에서 하고, 선점에 성공한 요청만 accountId의 AccountCommandSerializer 파티션에 넣는다.
+     * 재요청이 파티션 대기열을 차지하거나 같은 계좌의 다른 명령 뒤에서 기다리지 않는다.
+     * 명령과 응답 저장은 파티션 스레드에서 IdempotentCommandExecutor의 같은 트랜잭션으로 커밋된다.
+     */
+    public <T> T execute(Long userId, String idempotencyKey, String operation, Object request,
+                         Class<T> responseType, Long accountId, Supplier<T> command) {
+        return execute(userId, idempotencyKey, operation, request, responseType,
+                reserved -> accountCommandSerializer.execute(accountId, reserved), command);
+    }
+
+    private <T> T execute(Long userId, String idempotencyKey, String operation, Object request,
+                          Class<T> responseType, Function<Supplier<T>, T> runner, Supplier<T> command) {
+        if (idempotencyKey == null) {
+            return runner.apply(command);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(GlobalErrorCode.INVALID_REQUEST);
+        }
+
+        String cacheKey = userId + ":" + idempotencyKey;
+        String requestHash = hash(operation + ":" + write(request));
+        IdempotencyRecord cached = completedRecords.get(cacheKey);
+        if (cached != null && !isExpired(cached)) {
+            return replay(cached, requestHash, responseType);
+        }
+
+        IdempotencyRecord stored = idempotencyRecordRepository
+                .findByUserIdAndIdempotencyKey(userId, idempotencyKey).orElse(null);
+        if (stored != null && !isAbandoned(stored)) {
+            return replay(cacheKey, stored, requestHash, responseType);
+        }
+        if (stored != null) {
+            // 서버 중단 등으로 응답 없이 남은 선점, 그 사이 커밋되었으면 삭제되지 않으므로 저장된 응답을 반환
+            if (!stored.getRequestHash().equals(requestHash)) {
+                throw new CustomException(GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (idempotencyRecordRepository.deleteAbandonedReservation(stored.getId(), reservedBefore()) == 0) {
+                return replay(cacheKey, idempotencyRecordRepository
+                        .findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                        .orElseThrow(() -> new CustomException(GlobalErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS)),
+                        requestHash, responseType);
+            }
+        }
+
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .userId(userId)
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .build();
+        try {
+            idempotencyRecordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 요청이 동시에 들어와 다른 요청이 먼저 선점한 경우
+            return replay(cacheKey, idempotencyRecordRepository
+                    .findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                    .orElseThrow(() -> new CustomException(GlobalErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS)),
+                    requestHash, responseType);
+        }
+
+        T response;
+        try {
+            response = runner.apply(() -> idempotentCommandExecutor.execute(record.getId(), command, result -> {
+                String responseBody = write(result);
+                record.complete(responseBody);
+                return responseBody;
+            }));
+        } catch (RuntimeException e) {
+            // 명령과 응답 저장이 함께 롤백되었으므로 같은 키로 다시 시도할 수 있도록 선점을 해제
+            // 결과를 알 수 없는 경우(OUTCOME_UNKNOWN)에도 응답이 저장된 선점은 삭제되지 않음
+            idempotencyRecordRepository.deleteReservation(record.getId());
+            throw e;
+        }
+
+        completedRecords.put(cacheKey, record);
+
+        return response;
+    }
+
+    // ttl이 지난 기록은 IdempotencyRecordCleaner가 테이블에서 지우므로, 캐시에 남아 있어도 사용하지 않음
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.getCreatedAt() != null
+                && record.getCreatedAt().isBefore(LocalDateTime.now().minus(ttlMillis, ChronoUnit.MILLIS));
+    }
+
+    private boolean isAbandoned(IdempotencyRecord record) {
+        return !record.isCompleted() && record.getCreatedAt() != null
+                && record.getCreatedAt().isBefore(reservedBefore());
+    }
+
+    private LocalDateTime reservedBefore() {
+        return LocalDateTime.now().minus(reservationTimeoutMillis, ChronoUnit.MILLIS);
+    }
+
+    private <T> T replay(String cacheKey, IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        T response = replay(record, requestHash, responseType);
+        completedRecords.put(cacheKey, record);
+
+        return response;
+    }
+
+    private <T> T replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new CustomException(GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (!record.isCompleted()) {
+            throw new CustomException(GlobalErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+
+        try {
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.config.RetryOnConcurrencyFailure;
+import com.sskkilm.cashflow.entity.IdempotencyRecord;
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Idempotency-Key 요청의 명령과 응답 저장을 하나의 트랜잭션에서 커밋
+// 명령의 @Transactional 메소드는 이 트랜잭션에 참여하므로, 송금이 커밋되면 응답도 반드시 저장되어 있음
+// 동시성 충돌은 명령 메소드 대신 이 메소드에서 트랜잭션 전체를 재시도
+@Component
+@RequiredArgsConstructor
+public class IdempotentCommandExecutor {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @RetryOnConcurrencyFailure
+    @Transactional
+    public <T> T execute(Long recordId, Supplier<T> command, Function<T, String> writer) {
+        // 선점이 만료되어 다른 요청이 가져갔으면 명령을 실행하지 않음
+        IdempotencyRecord record = idempotencyRecordRepository.findByIdForUpdate(recordId)
+                .filter(reserved -> !reserved.isCompleted())
+                .orElseThrow(() -> new CustomException(GlobalErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+
+        T response = command.get();
+        record.complete(writer.apply(response));
+
+        return response;
+    }
+}
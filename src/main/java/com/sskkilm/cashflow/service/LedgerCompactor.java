@@ -0,0 +1,46 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.repository.LedgerEntryRepository;
+import com.sskkilm.cashflow.util.ClusterJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 스냅샷에 반영되지 않은 분개가 남아있는 계좌의 잔액 스냅샷을 주기적으로 갱신 (계좌마다 별도 트랜잭션)
+// 요청 처리 중에는 스냅샷을 갱신하지 않고, 모든 서버 중 잠금을 얻은 서버 하나만 실행
+@Component
+public class LedgerCompactor {
+
+    private static final String COMPACTION_LOCK = "cashflow.ledger-compaction";
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerService ledgerService;
+    private final ClusterJobLock clusterJobLock;
+    private final int maxAccounts;
+
+    public LedgerCompactor(LedgerEntryRepository ledgerEntryRepository,
+                           LedgerService ledgerService,
+                           ClusterJobLock clusterJobLock,
+                           @Value("${cashflow.ledger.compaction-max-accounts:100}") int maxAccounts) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.ledgerService = ledgerService;
+        this.clusterJobLock = clusterJobLock;
+        this.maxAccounts = maxAccounts;
+    }
+
+    // 한 번에 최대 compaction-max-accounts개 계좌만 갱신하고, 남은 계좌는 다음 주기에 갱신
+    @Scheduled(fixedDelayString = "${cashflow.ledger.compaction-interval-ms:1000}")
+    public void compactAll() {
+        clusterJobLock.runExclusively(COMPACTION_LOCK, () -> {
+            for (Long accountId : ledgerEntryRepository.findAccountIdsToCompact(PageRequest.ofSize(maxAccounts))) {
+                try {
+                    ledgerService.compact(accountId);
+                } catch (ConcurrencyFailureException e) {
+                    // 출금 중인 계좌는 다음 주기에 다시 갱신
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.entity.Account;
+import com.sskkilm.cashflow.entity.LedgerEntry;
+import com.sskkilm.cashflow.enums.AccountStatus;
+import com.sskkilm.cashflow.enums.LedgerEntryType;
+import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.repository.LedgerEntryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// 잔액 변경은 원장(LedgerEntry)에 분개를 추가하는 것으로만 처리하고, Account.balance는 스냅샷으로 사용
+// 잔액 = 스냅샷 + 스냅샷에 반영되지 않은(compacted = false) 분개의 합
+// 입금되는 계좌는 분개만 추가하므로 계좌 row를 잠그지 않음 (입금이 몰리는 계좌도 잔액을 여러 row로 나눌 필요가 없음)
+// 출금되는 계좌는 조건부 UPDATE로 스냅샷에서 바로 차감하고 출금 분개는 compacted로 추가하므로,
+// 스냅샷에 반영되지 않은 분개는 입금뿐이고 스냅샷은 잔액의 하한이 됨
+// 스냅샷 갱신은 요청 처리와 분리하여 LedgerCompactor가 주기적으로 실행
+@Service
+public class LedgerService {
+
+    private final AccountRepository accountRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final int compactionBatchSize;
+
+    public LedgerService(AccountRepository accountRepository,
+                         LedgerEntryRepository ledgerEntryRepository,
+                         @Value("${cashflow.ledger.compaction-batch-size:1000}") int compactionBatchSize) {
+        this.accountRepository = accountRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.compactionBatchSize = compactionBatchSize;
+    }
+
+    public Integer balanceOf(Account account) {
+        return ledgerEntryRepository.findTail(account.getId())
+                .map(tail -> account.getBalance() + tail.amount().intValue())
+                .orElse(account.getBalance());
+    }
+
+    public void deposit(Long accountId, Integer amount) {
+        append(LedgerEntryType.DEPOSIT, null, accountId, amount);
+    }
+
+    /**
+     * 계좌 소유주, 상태, 잔액을 조건으로 스냅샷에서 차감하고 차감 후 잔액을 반환한다.
+     * 조건이 맞지 않으면 아무것도 변경하지 않고 empty를 반환한다.
+     */
+    public Optional<Integer> withdraw(Long accountId, Long userId, Integer amount) {
+        if (!debit(accountId, userId, amount)) {
+            return Optional.empty();
+        }
+        append(LedgerEntryType.WITHDRAW, accountId, null, amount);
+
+        return accountRepository.findBalanceById(accountId);
+    }
+
+    // 수금 계좌는 호출하기 전에 확인해야 함 (차감한 뒤에는 수금 계좌 오류로 실패하지 않도록)
+    public Optional<Integer> transfer(Long accountId, Long userId, Long receivingAccountId, Integer amount) {
+        if (!debit(accountId, userId, amount)) {
+            return Optional.empty();
+        }
+        append(LedgerEntryType.REMITTANCE, accountId, receivingAccountId, amount);
+
+        return accountRepository.findBalanceById(accountId);
+    }
+
+    @Transactional
+    public void compact(Long accountId) {
+        accountRepository.findByIdForUpdate(accountId).ifPresent(this::compact);
+    }
+
+    // 대부분은 스냅샷만으로 잔액이 충분하므로 UPDATE 한 문장으로 끝나고,
+    // 스냅샷이 부족할 때만 스냅샷에 반영되지 않은 입금까지 더한 잔액을 조건으로 다시 UPDATE (스냅샷은 음수가 될 수 있음)
+    private boolean debit(Long accountId, Long userId, Integer amount) {
+        return accountRepository.debitSnapshot(accountId, userId, AccountStatus.ACTIVE, amount) == 1
+                || accountRepository.debitBalance(accountId, userId, AccountStatus.ACTIVE, amount) == 1;
+    }
+
+    // 출금 분개는 debit에서 스냅샷에 이미 반영했으므로 compacted로 추가
+    // 송금 입금 분개는 DailyRemittanceRollupService가 수금 계좌의 받은 송금 금액에 반영하도록 rolledUp = false로 추가
+    private void append(LedgerEntryType type, Long debitAccountId, Long creditAccountId, Integer amount) {
+        String transactionId = UUID.randomUUID().toString();
+        ledgerEntryRepository.saveAll(List.of(
+                LedgerEntry.builder()
+                        .transactionId(transactionId)
+                        .accountId(debitAccountId)
+                        .type(type)
+                        .amount(-amount)
+                        .compacted(true)
+                        .build(),
+                LedgerEntry.builder()
+                        .transactionId(transactionId)
+                        .accountId(creditAccountId)
+                        .type(type)
+                        .amount(amount)
+                        .rolledUp(type != LedgerEntryType.REMITTANCE)
+                        .build()
+        ));
+    }
+
+    /**
+     * 이 트랜잭션에서 보이는(커밋된) 분개만 스냅샷에 더하고, 더한 분개를 compacted로 표시한다.
+     * 아직 커밋되지 않은 분개는 id가 작더라도 표시되지 않으므로 커밋 후에 잔액 계산과 다음 스냅샷에 포함된다.
+     * 스냅샷과 표시는 같은 트랜잭션에서 커밋되므로 분개가 빠지거나 두번 더해지지 않는다.
+     * 표시는 분개 row 전체를 다시 쓰지 않도록 compacted 컬럼만 UPDATE 한다.
+     * account는 호출한 트랜잭션에서 잠금을 획득한 상태여야 함 (스냅샷 갱신끼리, 출금과 직렬화)
+     */
+    private void compact(Account account) {
+        List<LedgerEntry> entries = ledgerEntryRepository.findUncompacted(
+                account.getId(), PageRequest.ofSize(compactionBatchSize)
+        );
+        if (entries.isEmpty()) {
+            return;
+        }
+        int amount = 0;
+        for (LedgerEntry entry : entries) {
+            amount += entry.getAmount();
+        }
+        ledgerEntryRepository.markCompacted(entries.stream().map(LedgerEntry::getId).toList());
+        account.snapshot(account.getBalance() + amount);
+    }
+}
@@ -0,0 +1,171 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.dto.RemittanceStatusDto;
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.enums.RemittanceErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.RemittanceRequestRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 비동기 송금 요청 id를 제한된 큐에 담고, 워커 스레드가 최대 batch-size 만큼 모아 한번에 커밋
+// 큐는 메모리에만 있으므로 서버 재시작 등으로 유실된 PENDING 요청은 주기적으로 다시 큐에 넣음
+@Slf4j
+@Component
+public class RemittanceDispatcher {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final RemittanceService remittanceService;
+    private final RemittanceRequestRepository remittanceRequestRepository;
+    private final BlockingQueue<Long> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final long staleAfterMillis;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public RemittanceDispatcher(RemittanceService remittanceService,
+                                RemittanceRequestRepository remittanceRequestRepository,
+                                @Value("${cashflow.async-remittance.workers:4}") int workerCount,
+                                @Value("${cashflow.async-remittance.queue-capacity:1000}") int queueCapacity,
+                                @Value("${cashflow.async-remittance.batch-size:50}") int batchSize,
+                                @Value("${cashflow.async-remittance.stale-after-ms:10000}") long staleAfterMillis) {
+        this.remittanceService = remittanceService;
+        this.remittanceRequestRepository = remittanceRequestRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.staleAfterMillis = staleAfterMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "remittance-worker-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 큐에 여유가 있을 때만 요청을 접수하고 워커에 전달한다.
+     * 접수 직후 큐가 가득 차 전달하지 못한 요청은 PENDING으로 남아 recover()에서 다시 전달된다.
+     */
+    public RemittanceStatusDto submit(Supplier<RemittanceStatusDto> accept) {
+        if (queue.remainingCapacity() == 0) {
+            throw new CustomException(GlobalErrorCode.SERVER_BUSY);
+        }
+
+        RemittanceStatusDto accepted = accept.get();
+        // Idempotency-Key 트랜잭션 안에서 접수된 요청은 커밋된 뒤에 워커에 전달
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queue.offer(accepted.remittanceRequestId());
+                }
+            });
+        } else {
+            queue.offer(accepted.remittanceRequestId());
+        }
+
+        return accepted;
+    }
+
+    @Scheduled(fixedDelayString = "${cashflow.async-remittance.recovery-interval-ms:5000}")
+    public void recover() {
+        int capacity = queue.remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+
+        remittanceRequestRepository.findPendingIdsCreatedBefore(
+                LocalDateTime.now().minus(staleAfterMillis, ChronoUnit.MILLIS),
+                PageRequest.of(0, capacity)
+        ).stream()
+                .filter(id -> !queue.contains(id))
+                .forEach(queue::offer);
+    }
+
+    private void work() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Long first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 묶음 처리가 실패하면 요청을 하나씩 다시 처리하여 실패한 요청만 FAILED로 기록
+    private void process(List<Long> batch) {
+        try {
+            remittanceService.processRemittanceRequests(batch);
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch, e);
+                return;
+            }
+        }
+
+        for (Long remittanceRequestId : batch) {
+            try {
+                remittanceService.processRemittanceRequests(List.of(remittanceRequestId));
+            } catch (RuntimeException e) {
+                fail(List.of(remittanceRequestId), e);
+            }
+        }
+    }
+
+    private void fail(List<Long> remittanceRequestIds, RuntimeException e) {
+        log.error("송금 요청 처리 실패 {}", remittanceRequestIds, e);
+        try {
+            remittanceService.failRemittanceRequests(remittanceRequestIds,
+                    e instanceof ConcurrencyFailureException
+                            ? GlobalErrorCode.CONCURRENT_UPDATE_CONFLICT
+                            : RemittanceErrorCode.REMITTANCE_PROCESSING_FAILED);
+        } catch (RuntimeException failure) {
+            // 상태를 기록하지 못한 요청은 PENDING으로 남아 recover()에서 다시 처리됨
+            log.error("송금 요청 실패 기록 실패 {}", remittanceRequestIds, failure);
+        }
+    }
+
+    // 종료 시 큐에 남은 요청은 모두 처리한 뒤 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 송금 이력 내보내기 전용 스레드 풀
+// 내보내기는 끝날 때까지 DB 커넥션을 잡고 있으므로 MVC 기본 비동기 실행기와 분리하여 동시 실행 수(threads)와 대기 수를 제한하고,
+// 대기열이 가득 차면 받지 않고 503을 반환
+// timeout-ms는 이 엔드포인트에만 적용되며, 초과하면 실행 중인 내보내기를 인터럽트하고 응답을 끝냄
+@Component
+public class RemittanceExportExecutor {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+
+    public RemittanceExportExecutor(@Value("${cashflow.remittance-export.threads:2}") int threads,
+                                    @Value("${cashflow.remittance-export.queue-capacity:8}") int queueCapacity,
+                                    @Value("${cashflow.remittance-export.timeout-ms:600000}") long timeoutMillis) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "remittance-export-" + sequence.incrementAndGet())
+        );
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * body를 내보내기 스레드에서 실행하고, 기록한 내용을 응답으로 보내는 emitter를 반환한다.
+     * 스레드와 대기열이 모두 차 있으면 응답을 시작하기 전에 SERVER_BUSY를 던진다.
+     */
+    public ResponseBodyEmitter submit(MediaType contentType, StreamingResponseBody body) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        Future<?> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    body.writeTo(new EmitterOutputStream(emitter, contentType));
+                    emitter.complete();
+                } catch (IOException | RuntimeException e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new CustomException(GlobalErrorCode.SERVER_BUSY);
+        }
+        // 시간이 초과되거나 클라이언트 연결이 끊기면 DB 조회를 계속하지 않도록 인터럽트
+        emitter.onTimeout(() -> future.cancel(true));
+        emitter.onError(e -> future.cancel(true));
+
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // 내보내기가 기록한 바이트를 그대로 응답에 전달 (버퍼링은 내보내기의 Writer에서 함)
+    private static class EmitterOutputStream extends OutputStream {
+
+        private final ResponseBodyEmitter emitter;
+        private final MediaType contentType;
+
+        EmitterOutputStream(ResponseBodyEmitter emitter, MediaType contentType) {
+            this.emitter = emitter;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            emitter.send(new byte[]{(byte) b}, contentType);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                emitter.send(Arrays.copyOfRange(b, off, off + len), contentType);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sskkilm.cashflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.entity.Account;
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.AccountErrorCode;
+import com.sskkilm.cashflow.enums.RemittanceExportFormat;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.repository.ColdRemittanceRepository;
+import com.sskkilm.cashflow.repository.RemittanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// 계좌의 전체 송금 이력을 한 row씩 읽어서 바로 응답 스트림에 기록
+// DTO로 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않아 이력 크기와 무관하게 메모리 사용량이 일정함
+@Service
+@RequiredArgsConstructor
+public class RemittanceExporter {
+
+    private static final String CSV_HEADER = "receivingAccountNumber,remittanceAmount,accountBalanceSnapshot,createdAt";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final AccountRepository accountRepository;
+    private final RemittanceRepository remittanceRepository;
+    private final ColdRemittanceRepository coldRemittanceRepository;
+    private final RemittancePartitionManager remittancePartitionManager;
+    private final ObjectMapper objectMapper;
+
+    // 응답을 쓰기 시작한 뒤에는 에러 응답을 보낼 수 없으므로 계좌 확인은 스트리밍 전에 따로 실행
+    @Transactional(readOnly = true)
+    public void checkAccountOwner(Long accountId, User user) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        if (!Objects.equals(account.getUser().getId(), user.getId())) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+    }
+
+    // Stream은 트랜잭션 안에서만 읽을 수 있으므로 스트림을 다 쓸 때까지 트랜잭션 유지
+    @Transactional(readOnly = true)
+    public void export(Long accountId, RemittanceExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == RemittanceExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // MySQL은 한 커넥션에서 스트리밍 결과를 하나만 열 수 있으므로 hot 이력을 다 쓴 뒤 cold 이력을 조회
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        try (Stream<RemittanceDto> remittances = remittanceRepository.streamAllByAccountId(accountId, coldBefore)) {
+            remittances.forEach(remittance -> write(writer, format, remittance));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (remittancePartitionManager.isEnabled()) {
+            try (Stream<RemittanceDto> remittances =
+                         coldRemittanceRepository.streamAllByAccountId(accountId, coldBefore)) {
+                remittances.forEach(remittance -> write(writer, format, remittance));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        writer.flush();
+    }
+
+    private void write(Writer writer, RemittanceExportFormat format, RemittanceDto remittance) {
+        try {
+            if (format == RemittanceExportFormat.CSV) {
+                writer.write(String.join(",",
+                        csvText(remittance.receivingAccountNumber()),
+                        String.valueOf(remittance.remittanceAmount()),
+                        String.valueOf(remittance.accountBalanceSnapshot()),
+                        String.valueOf(remittance.createdAt())
+                ));
+            } else {
+                writer.write(objectMapper.writeValueAsString(remittance));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 스프레드시트가 수식으로 실행하지 않도록 수식 시작 문자 앞에 '를 붙이고, RFC 4180에 따라 따옴표로 감쌈
+    // 숫자와 시각은 서버가 만든 값이라 구분자가 들어갈 수 없으므로 문자열 필드에만 적용
+    private String csvText(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0 && !value.startsWith("'")) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
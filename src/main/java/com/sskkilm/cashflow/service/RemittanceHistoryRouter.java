@@ -0,0 +1,232 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.dto.IncomingRemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.dto.RemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceVersionDto;
+import com.sskkilm.cashflow.entity.Account;
+import com.sskkilm.cashflow.enums.RemittanceErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.ColdRemittanceRepository;
+import com.sskkilm.cashflow.repository.DailyRemittanceRollupRepository;
+import com.sskkilm.cashflow.repository.RemittanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 송금 이력 조회를 기간에 따라 hot(remittance) / cold(remittance_cold) 테이블로 나눠 보냄
+// hot 이력은 항상 cold 이력보다 최신이므로, 경계에 걸친 조회는 최신순으로 hot 구간 다음에 cold 구간을 이어 붙임
+// cold 테이블에는 cold가 되기 전에 미리 복사된 경계 이후 이력도 있으므로, cold 구간은 항상 경계 이전으로 제한
+@Component
+@RequiredArgsConstructor
+public class RemittanceHistoryRouter {
+
+    // MySQL DATETIME 최솟값/최댓값, 기간 없는 조회의 양 끝
+    private static final LocalDateTime OPEN_START = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final RemittanceRepository remittanceRepository;
+    private final ColdRemittanceRepository coldRemittanceRepository;
+    private final DailyRemittanceRollupRepository dailyRemittanceRollupRepository;
+    private final RemittancePartitionManager remittancePartitionManager;
+
+    // 기간 없이 offset으로 조회하는 이력도 hot 이력 다음에 cold 이력을 이어서 조회
+    public Slice<RemittanceDto> findSlice(Account account, Pageable pageable) {
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        if (!remittancePartitionManager.isEnabled()) {
+            return remittanceRepository.findAllByAccount(account, coldBefore, pageable);
+        }
+
+        return findSlice(account, OPEN_START, OPEN_END, pageable);
+    }
+
+    // 송금 이력 ETag용 버전, hot 구간과 경계 이전의 cold 구간을 합침
+    public RemittanceVersionDto findVersion(Long accountId) {
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        RemittanceVersionDto version = remittanceRepository.findVersion(accountId, coldBefore);
+        if (!remittancePartitionManager.isEnabled()) {
+            return version;
+        }
+
+        return version.plus(coldRemittanceRepository.findVersion(accountId, coldBefore));
+    }
+
+    public Page<RemittanceDto> findPage(
+            Account account, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable
+    ) {
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        if (!startDate.isBefore(coldBefore)) {
+            return remittanceRepository.findAllByAccountAndCreatedAt(account, startDate, endDate, pageable);
+        }
+        if (endDate.isBefore(coldBefore)) {
+            return coldRemittanceRepository.findAllByAccountIdAndCreatedAt(
+                    account.getId(), startDate, endDate, pageable
+            );
+        }
+
+        checkSortable(pageable);
+        long hotCount = remittanceRepository.countSegment(account.getId(), coldBefore, endDate);
+        long coldCount = coldRemittanceRepository.countSegment(account.getId(), startDate, coldBefore);
+        List<RemittanceDto> content = stitch(
+                account.getId(), startDate, endDate, coldBefore, hotCount,
+                pageable.getOffset(), pageable.getPageSize()
+        );
+
+        return new PageImpl<>(content, pageable, hotCount + coldCount);
+    }
+
+    public Slice<RemittanceDto> findSlice(
+            Account account, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable
+    ) {
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        if (!startDate.isBefore(coldBefore)) {
+            return remittanceRepository.findSliceByAccountAndCreatedAt(account, startDate, endDate, pageable);
+        }
+        if (endDate.isBefore(coldBefore)) {
+            return coldRemittanceRepository.findSliceByAccountIdAndCreatedAt(
+                    account.getId(), startDate, endDate, pageable
+            );
+        }
+
+        // 경계는 월초 0시이므로 hot 구간 건수도 COUNT 대신 일별 집계로 계산
+        checkSortable(pageable);
+        long hotCount = dailyRemittanceRollupRepository.sumRemittanceCount(
+                account.getId(), coldBefore.toLocalDate(), endDate.toLocalDate()
+        );
+        List<RemittanceDto> content = stitch(
+                account.getId(), startDate, endDate, coldBefore, hotCount,
+                pageable.getOffset(), pageable.getPageSize() + 1
+        );
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    // cursor 이후 최대 limit 건, hot 이력을 다 읽으면 이어서 cold 이력을 조회
+    public List<RemittanceKeysetDto> findAfter(Long accountId, RemittanceCursor cursor, int limit) {
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        List<RemittanceKeysetDto> remittances = new ArrayList<>(limit);
+        remittances.addAll(cursor == null
+                ? remittanceRepository.findFirstByAccountId(accountId, coldBefore, PageRequest.ofSize(limit))
+                : remittanceRepository.findAllByAccountIdAfter(
+                accountId, coldBefore, cursor.createdAt(), cursor.remittanceId(), PageRequest.ofSize(limit)
+        ));
+        if (remittances.size() >= limit || !remittancePartitionManager.isEnabled()) {
+            return remittances;
+        }
+
+        RemittanceCursor coldCursor = coldCursor(cursor, coldBefore);
+        remittances.addAll(coldRemittanceRepository.findAllByAccountIdAfter(
+                accountId, coldCursor.createdAt(), coldCursor.remittanceId(),
+                PageRequest.ofSize(limit - remittances.size())
+        ));
+
+        return remittances;
+    }
+
+    // startDate 이후이면서 cursor 이전인 송금 최대 limit 건, 기간의 끝은 첫 cursor로 전달
+    public List<RemittanceKeysetDto> findBetween(
+            Long accountId, LocalDateTime startDate, RemittanceCursor cursor, int limit
+    ) {
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        List<RemittanceKeysetDto> remittances = new ArrayList<>(limit);
+        remittances.addAll(remittanceRepository.findAllByAccountIdAfter(
+                accountId, startDate.isAfter(coldBefore) ? startDate : coldBefore,
+                cursor.createdAt(), cursor.remittanceId(), PageRequest.ofSize(limit)
+        ));
+        if (remittances.size() >= limit || !startDate.isBefore(coldBefore)) {
+            return remittances;
+        }
+
+        RemittanceCursor coldCursor = coldCursor(cursor, coldBefore);
+        remittances.addAll(coldRemittanceRepository.findAllByAccountIdAfter(
+                accountId, startDate, coldCursor.createdAt(), coldCursor.remittanceId(),
+                PageRequest.ofSize(limit - remittances.size())
+        ));
+
+        return remittances;
+    }
+
+    // 받은 송금도 같은 방식으로 hot 다음에 cold를 이어서 조회
+    public List<IncomingRemittanceKeysetDto> findIncomingAfter(Long accountId, RemittanceCursor cursor, int limit) {
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        List<IncomingRemittanceKeysetDto> remittances = new ArrayList<>(limit);
+        remittances.addAll(cursor == null
+                ? remittanceRepository.findFirstIncomingByAccountId(accountId, coldBefore, PageRequest.ofSize(limit))
+                : remittanceRepository.findIncomingByAccountIdAfter(
+                accountId, coldBefore, cursor.createdAt(), cursor.remittanceId(), PageRequest.ofSize(limit)
+        ));
+        if (remittances.size() >= limit || !remittancePartitionManager.isEnabled()) {
+            return remittances;
+        }
+
+        RemittanceCursor coldCursor = coldCursor(cursor, coldBefore);
+        remittances.addAll(coldRemittanceRepository.findIncomingByAccountIdAfter(
+                accountId, coldCursor.createdAt(), coldCursor.remittanceId(),
+                PageRequest.ofSize(limit - remittances.size())
+        ));
+
+        return remittances;
+    }
+
+    // 검색도 hot 이력에서 limit 건을 채우지 못하면 cold 이력을 이어서 검색
+    public List<RemittanceSearchKeysetDto> search(
+            Long accountId, RemittanceSearchDto.Request condition, RemittanceCursor cursor, int limit
+    ) {
+        LocalDateTime coldBefore = remittancePartitionManager.coldBefore();
+        List<RemittanceSearchKeysetDto> remittances = new ArrayList<>(limit);
+        remittances.addAll(remittanceRepository.search(accountId, condition, coldBefore, cursor, limit));
+        if (remittances.size() >= limit || !remittancePartitionManager.isEnabled()) {
+            return remittances;
+        }
+
+        remittances.addAll(coldRemittanceRepository.search(
+                accountId, condition, coldCursor(cursor, coldBefore), limit - remittances.size()
+        ));
+
+        return remittances;
+    }
+
+    // hot 이력을 다 읽었으면 cold 경계 직전부터, cursor가 이미 cold 구간이면 cursor 이후부터 cold 이력을 조회
+    // remittance_id는 양수이므로 (coldBefore, 0)은 createdAt < coldBefore 와 같음
+    private RemittanceCursor coldCursor(RemittanceCursor cursor, LocalDateTime coldBefore) {
+        if (cursor != null && cursor.createdAt().isBefore(coldBefore)) {
+            return cursor;
+        }
+        return new RemittanceCursor(coldBefore, 0L);
+    }
+
+    private List<RemittanceDto> stitch(
+            Long accountId, LocalDateTime startDate, LocalDateTime endDate, LocalDateTime coldBefore,
+            long hotCount, long offset, int limit
+    ) {
+        List<RemittanceDto> content = new ArrayList<>(limit);
+        if (offset < hotCount) {
+            content.addAll(remittanceRepository.findSegment(accountId, coldBefore, endDate, offset, limit));
+        }
+        int remaining = limit - content.size();
+        if (remaining > 0) {
+            content.addAll(coldRemittanceRepository.findSegment(
+                    accountId, startDate, coldBefore, Math.max(0, offset - hotCount), remaining
+            ));
+        }
+
+        return content;
+    }
+
+    // hot 구간 다음에 cold 구간을 붙이는 방식이므로 경계에 걸친 조회는 최신순 정렬만 지원
+    private void checkSortable(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!"createdAt".equals(order.getProperty()) || order.isAscending()) {
+                throw new CustomException(RemittanceErrorCode.REMITTANCE_HISTORY_SORT_NOT_SUPPORTED);
+            }
+        }
+    }
+}
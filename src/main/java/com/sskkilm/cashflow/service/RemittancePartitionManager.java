@@ -0,0 +1,119 @@
+package com.sskkilm.cashflow.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// remittance 테이블은 created_at 기준 월별 RANGE COLUMNS 파티션(pYYYYMM + p_max)으로 구성
+// 기간 조회는 created_at 조건으로 MySQL이 겹치는 파티션만 읽고, hot 보관 기간이 지난 월은 remittance_cold로 옮김
+//  - 앞으로 months-ahead 개월의 파티션을 미리 p_max에서 분리
+//  - cold 경계 직전 월까지 remittance_cold로 복사 (INSERT IGNORE라 반복 실행해도 안전)
+//  - 모든 서버가 cold로 조회하도록 경계가 지나고 한 달이 더 지난 파티션만 삭제
+@Slf4j
+@Component
+public class RemittancePartitionManager {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String MAX_PARTITION = "p_max";
+    // MySQL DATETIME 최솟값, 파티션을 사용하지 않으면 모든 이력이 hot
+    private static final LocalDateTime NO_COLD_BOUNDARY = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int hotMonths;
+    private final int monthsAhead;
+
+    public RemittancePartitionManager(JdbcTemplate jdbcTemplate,
+                                      @Value("${cashflow.remittance-partition.enabled:false}") boolean enabled,
+                                      @Value("${cashflow.remittance-partition.hot-months:13}") int hotMonths,
+                                      @Value("${cashflow.remittance-partition.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        // 진행 중인 달이 복사된 직후 cold가 되지 않도록 최소 2개월은 hot으로 유지
+        this.hotMonths = Math.max(2, hotMonths);
+        this.monthsAhead = monthsAhead;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 이 시각 이전의 송금 이력은 remittance_cold에서 조회, 시계만으로 계산하므로 모든 서버가 같은 경계를 사용
+    // 삭제 전 파티션에 남아있는 경계 이전 이력과 중복되지 않도록 hot 조회는 항상 이 시각 이후로 제한
+    public LocalDateTime coldBefore() {
+        if (!enabled) {
+            return NO_COLD_BOUNDARY;
+        }
+        return firstHotMonth().atDay(1).atStartOfDay();
+    }
+
+    @Scheduled(cron = "${cashflow.remittance-partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "Select partition_name from information_schema.partitions " +
+                        "Where table_schema = database() And table_name = 'remittance' " +
+                        "And partition_name Is Not Null Order By partition_ordinal_position",
+                String.class
+        );
+
+        YearMonth currentMonth = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!partitions.contains(month.format(PARTITION_NAME))) {
+                addPartition(month);
+            }
+        }
+
+        YearMonth firstHotMonth = firstHotMonth();
+        for (String partition : partitions) {
+            if (!partition.matches("p\\d{6}")) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(partition, PARTITION_NAME);
+            if (month.isBefore(firstHotMonth.plusMonths(1))) {
+                copyToCold(partition);
+            }
+            if (month.isBefore(firstHotMonth.minusMonths(1))) {
+                dropPartition(partition);
+            }
+        }
+    }
+
+    private YearMonth firstHotMonth() {
+        return YearMonth.now().minusMonths(hotMonths - 1);
+    }
+
+    private void addPartition(YearMonth month) {
+        jdbcTemplate.execute("Alter Table remittance Reorganize Partition " + MAX_PARTITION + " Into (" +
+                "Partition " + month.format(PARTITION_NAME) +
+                " Values Less Than ('" + month.plusMonths(1).atDay(1) + "'), " +
+                "Partition " + MAX_PARTITION + " Values Less Than (MAXVALUE))");
+        log.info("송금 이력 파티션 추가 {}", month.format(PARTITION_NAME));
+    }
+
+    private void copyToCold(String partition) {
+        int copied = jdbcTemplate.update("Insert Ignore Into remittance_cold " +
+                "(remittance_id, receiving_account_number, receiving_account_id, amount, account_balance_snapshot, " +
+                "account_id, created_at) " +
+                "Select remittance_id, receiving_account_number, receiving_account_id, amount, account_balance_snapshot, " +
+                "account_id, created_at " +
+                "From remittance Partition (" + partition + ")");
+        log.info("송금 이력 파티션 {} cold 복사 {}건", partition, copied);
+    }
+
+    private void dropPartition(String partition) {
+        jdbcTemplate.execute("Alter Table remittance Drop Partition " + partition);
+        log.info("송금 이력 파티션 삭제 {}", partition);
+    }
+}
@@ -1,16 +1,33 @@
 package com.sskkilm.cashflow.service;
 
+import com.sskkilm.cashflow.config.RetryOnConcurrencyFailure;
+import com.sskkilm.cashflow.dto.CreateRemittanceBatchDto;
 import com.sskkilm.cashflow.dto.CreateRemittanceDto;
+import com.sskkilm.cashflow.dto.IncomingRemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.IncomingRemittancePageDto;
+import com.sskkilm.cashflow.dto.ReceivingAccountDto;
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceCursorPageDto;
 import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.dto.RemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceSliceDto;
+import com.sskkilm.cashflow.dto.RemittanceStatusDto;
 import com.sskkilm.cashflow.entity.Account;
 import com.sskkilm.cashflow.entity.Remittance;
+import com.sskkilm.cashflow.entity.RemittanceRequest;
 import com.sskkilm.cashflow.entity.User;
 import com.sskkilm.cashflow.enums.AccountErrorCode;
 import com.sskkilm.cashflow.enums.AccountStatus;
+import com.sskkilm.cashflow.enums.ErrorCode;
 import com.sskkilm.cashflow.enums.RemittanceErrorCode;
+import com.sskkilm.cashflow.enums.RemittanceRequestStatus;
 import com.sskkilm.cashflow.exception.CustomException;
 import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.repository.DailyRemittanceRollupRepository;
 import com.sskkilm.cashflow.repository.RemittanceRepository;
+import com.sskkilm.cashflow.repository.RemittanceRequestRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,17 +36,54 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.TreeSet;
 
 @Service
 @RequiredArgsConstructor
 public class RemittanceService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 30;
+
     private final AccountRepository accountRepository;
     private final RemittanceRepository remittanceRepository;
+    private final RemittanceRequestRepository remittanceRequestRepository;
+    private final LedgerService ledgerService;
+    private final AccountNumberResolver accountNumberResolver;
+    private final DailyRemittanceRollupRepository dailyRemittanceRollupRepository;
+    private final RemittanceHistoryRouter remittanceHistoryRouter;
 
+    @RetryOnConcurrencyFailure
     @Transactional
     public CreateRemittanceDto.Response createRemittance(CreateRemittanceDto.Request request, User user) {
+        return CreateRemittanceDto.Response.fromEntity(remit(request, user));
+    }
+
+    // 전체 송금을 하나의 트랜잭션에서 실행하고, 실패한 항목은 결과에만 기록하고 나머지 항목을 계속 처리
+    @RetryOnConcurrencyFailure
+    @Transactional
+    public CreateRemittanceBatchDto.Response createRemittances(CreateRemittanceBatchDto.Request request, User user) {
+        List<CreateRemittanceDto.Request> remittances = request.remittances();
+        lockAccounts(remittances.stream().map(CreateRemittanceDto.Request::accountId).toList());
+        List<CreateRemittanceBatchDto.Result> results = new ArrayList<>(remittances.size());
+        for (int index = 0; index < remittances.size(); index++) {
+            try {
+                results.add(CreateRemittanceBatchDto.Result.success(index,
+                        CreateRemittanceDto.Response.fromEntity(remit(remittances.get(index), user))));
+            } catch (CustomException e) {
+                results.add(CreateRemittanceBatchDto.Result.failure(index, e.getErrorCode()));
+            }
+        }
+
+        return CreateRemittanceBatchDto.Response.of(results);
+    }
+
+    // 비동기 송금 요청 접수, 송금 계좌만 확인하고 실제 송금은 워커가 처리
+    @Transactional
+    public RemittanceStatusDto acceptRemittance(CreateRemittanceDto.Request request, User user) {
         Account account = accountRepository.findById(request.accountId())
                 .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
         if (!Objects.equals(account.getUser().getId(), user.getId())) {
@@ -38,35 +92,113 @@ public class RemittanceService {
         if (account.getStatus() == AccountStatus.INACTIVE) {
             throw new CustomException(AccountErrorCode.ACCOUNT_CAN_NOT_USE);
         }
-        if (account.getBalance() < request.remittanceAmount()) {
-            throw new CustomException(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT);
+
+        RemittanceRequest remittanceRequest = remittanceRequestRepository.save(
+                RemittanceRequest.builder()
+                        .user(user)
+                        .accountId(request.accountId())
+                        .receivingAccountNumber(request.receivingAccountNumber())
+                        .amount(request.remittanceAmount())
+                        .status(RemittanceRequestStatus.PENDING)
+                        .build()
+        );
+
+        return RemittanceStatusDto.fromEntity(remittanceRequest);
+    }
+
+    // 워커가 모은 송금 요청을 하나의 트랜잭션에서 처리하고, 요청 상태도 같은 트랜잭션에서 변경
+    @RetryOnConcurrencyFailure
+    @Transactional
+    public void processRemittanceRequests(List<Long> remittanceRequestIds) {
+        List<RemittanceRequest> remittanceRequests =
+                remittanceRequestRepository.findPendingByIdsForUpdate(remittanceRequestIds);
+        lockAccounts(remittanceRequests.stream().map(RemittanceRequest::getAccountId).toList());
+        for (RemittanceRequest remittanceRequest : remittanceRequests) {
+            try {
+                remittanceRequest.complete(
+                        remit(remittanceRequest.toRemittanceRequest(), remittanceRequest.getUser())
+                );
+            } catch (CustomException e) {
+                remittanceRequest.fail(e.getErrorCode());
+            }
         }
+    }
+
+    @Transactional
+    public void failRemittanceRequests(List<Long> remittanceRequestIds, ErrorCode errorCode) {
+        remittanceRequestRepository.findPendingByIdsForUpdate(remittanceRequestIds)
+                .forEach(remittanceRequest -> remittanceRequest.fail(errorCode));
+    }
+
+    // 여러 송금 계좌를 한 트랜잭션에서 잠그는 경우 데드락 방지를 위해 미리 account_id 순서로 잠금
+    private void lockAccounts(List<Long> accountIds) {
+        accountRepository.findAllByIdForUpdate(new TreeSet<>(accountIds));
+    }
 
-        Account receivingAccount = accountRepository.findByAccountNumber(request.receivingAccountNumber())
+    @Transactional(readOnly = true)
+    public RemittanceStatusDto getRemittanceStatus(Long remittanceRequestId, User user) {
+        RemittanceRequest remittanceRequest = remittanceRequestRepository.findById(remittanceRequestId)
+                .orElseThrow(() -> new CustomException(RemittanceErrorCode.REMITTANCE_REQUEST_NOT_FOUND));
+        if (!Objects.equals(remittanceRequest.getUser().getId(), user.getId())) {
+            throw new CustomException(RemittanceErrorCode.REMITTANCE_REQUEST_USER_UN_MATCH);
+        }
+
+        return RemittanceStatusDto.fromEntity(remittanceRequest);
+    }
+
+    // 수금 계좌를 먼저 확인한 뒤 송금 계좌는 조건부 UPDATE로 차감하고 원장에 송금 분개를 추가
+    // (수금 계좌 row는 잠그거나 변경하지 않음)
+    private Remittance remit(CreateRemittanceDto.Request request, User user) {
+        // 차감한 뒤에 수금 계좌 오류로 실패하면 일괄 송금에서 차감만 커밋되므로 차감 전에 확인
+        ReceivingAccountDto receivingAccount = accountNumberResolver
+                .resolve(request.receivingAccountNumber())
                 .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
-        if (receivingAccount.getStatus() == AccountStatus.INACTIVE) {
+        if (receivingAccount.status() == AccountStatus.INACTIVE) {
             throw new CustomException(RemittanceErrorCode.RECEIVING_ACCOUNT_CAN_NOT_USE);
         }
-
-        if (Objects.equals(account.getId(), receivingAccount.getId())) {
+        if (Objects.equals(request.accountId(), receivingAccount.accountId())) {
             throw new CustomException(RemittanceErrorCode.REMITTANCE_AND_RECEIVING_ACCOUNT_SAME);
         }
 
-        account.withdraw(request.remittanceAmount());
-        receivingAccount.deposit(request.remittanceAmount());
+        // 소유주, 상태, 잔액 확인과 차감을 한 문장으로 처리하고, 실패한 경우에만 계좌를 조회해 원인을 판단
+        Integer balance = ledgerService
+                .transfer(request.accountId(), user.getId(), receivingAccount.accountId(), request.remittanceAmount())
+                .orElseThrow(() -> debitFailure(request.accountId(), user));
 
         Remittance remittance = remittanceRepository.save(
                 Remittance.builder()
                         .receivingAccountNumber(request.receivingAccountNumber())
+                        .receivingAccountId(receivingAccount.accountId())
                         .amount(request.remittanceAmount())
-                        .accountBalanceSnapshot(account.getBalance())
-                        .account(account)
+                        .accountBalanceSnapshot(balance)
+                        .account(accountRepository.getReferenceById(request.accountId()))
                         .build()
         );
+        // 송금 계좌 row는 차감한 UPDATE로 잠겨 있으므로 같은 계좌의 집계 row 갱신은 경합하지 않음
+        dailyRemittanceRollupRepository.addSent(
+                request.accountId(), remittance.getCreatedAt().toLocalDate(),
+                remittance.getAmount(), remittance.getAccountBalanceSnapshot()
+        );
 
-        return CreateRemittanceDto.Response.fromEntity(remittance);
+        return remittance;
     }
 
+    private CustomException debitFailure(Long accountId, User user) {
+        Account account = accountRepository.findById(accountId).orElse(null);
+        if (account == null) {
+            return new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        if (!Objects.equals(account.getUser().getId(), user.getId())) {
+            return new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+        if (account.getStatus() == AccountStatus.INACTIVE) {
+            return new CustomException(AccountErrorCode.ACCOUNT_CAN_NOT_USE);
+        }
+
+        return new CustomException(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT);
+    }
+
+    @Transactional(readOnly = true)
     public Slice<RemittanceDto> getRemittanceList(Pageable pageable, Long accountId, User user) {
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
@@ -74,12 +206,103 @@ public class RemittanceService {
             throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
         }
 
-        Slice<Remittance> remittancePage = remittanceRepository
-                .findAllByAccount(account, pageable);
+        return remittanceHistoryRouter.findSlice(account, pageable);
+    }
 
-        return remittancePage.map(RemittanceDto::fromEntity);
+    // 송금 이력은 추가만 되므로 hot/cold 테이블의 송금 건수와 마지막 송금 id로 변경 여부를 판단
+    // (계좌 버전이나 원장 분개로 판단하면 송금액만큼 입금된 뒤 스냅샷이 갱신되었을 때 이전 값으로 돌아갈 수 있음)
+    @Transactional(readOnly = true)
+    public String getRemittanceListETag(Long accountId, User user) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        if (!Objects.equals(account.getUser().getId(), user.getId())) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+
+        return "remittances-" + accountId + "-" + remittanceHistoryRouter.findVersion(accountId).eTag();
     }
 
+    // offset 없이 마지막으로 본 (createdAt, remittanceId) 다음부터 인덱스를 바로 탐색
+    // 한 건을 더 조회해서 다음 페이지 존재 여부를 판단
+    @Transactional(readOnly = true)
+    public RemittanceCursorPageDto getRemittanceList(String after, int size, Long accountId, User user) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        if (!Objects.equals(account.getUser().getId(), user.getId())) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        RemittanceCursor cursor = after == null || after.isBlank() ? null : RemittanceCursor.decode(after);
+        List<RemittanceKeysetDto> remittances = remittanceHistoryRouter.findAfter(accountId, cursor, pageSize + 1);
+
+        boolean hasNext = remittances.size() > pageSize;
+        List<RemittanceKeysetDto> content = hasNext ? remittances.subList(0, pageSize) : remittances;
+
+        return RemittanceCursorPageDto.builder()
+                .content(content.stream().map(RemittanceKeysetDto::toRemittanceDto).toList())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? content.get(pageSize - 1).toCursor().encode() : null)
+                .build();
+    }
+
+    // 수금 계좌 기준으로 받은 송금을 커서 방식으로 조회
+    @Transactional(readOnly = true)
+    public IncomingRemittancePageDto getIncomingRemittanceList(String after, int size, Long accountId, User user) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        if (!Objects.equals(account.getUser().getId(), user.getId())) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        RemittanceCursor cursor = after == null || after.isBlank() ? null : RemittanceCursor.decode(after);
+        List<IncomingRemittanceKeysetDto> remittances =
+                remittanceHistoryRouter.findIncomingAfter(accountId, cursor, pageSize + 1);
+
+        boolean hasNext = remittances.size() > pageSize;
+        List<IncomingRemittanceKeysetDto> content = hasNext ? remittances.subList(0, pageSize) : remittances;
+
+        return IncomingRemittancePageDto.builder()
+                .content(content.stream().map(IncomingRemittanceKeysetDto::toIncomingRemittanceDto).toList())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? content.get(pageSize - 1).toCursor().encode() : null)
+                .build();
+    }
+
+    // 금액 범위, 상대 계좌번호 앞자리, 방향으로 송금 이력을 검색하고 커서 방식으로 반환
+    @Transactional(readOnly = true)
+    public RemittanceSearchDto.Response searchRemittances(
+            RemittanceSearchDto.Request request, Long accountId, User user
+    ) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        if (!Objects.equals(account.getUser().getId(), user.getId())) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+        if (request.minAmount() != null && request.maxAmount() != null
+                && request.minAmount() > request.maxAmount()) {
+            throw new CustomException(RemittanceErrorCode.INVALID_REMITTANCE_AMOUNT_RANGE);
+        }
+
+        int size = request.size() == null ? DEFAULT_CURSOR_PAGE_SIZE : request.size();
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        RemittanceCursor cursor = request.after() == null || request.after().isBlank()
+                ? null : RemittanceCursor.decode(request.after());
+        List<RemittanceSearchKeysetDto> remittances =
+                remittanceHistoryRouter.search(accountId, request, cursor, pageSize + 1);
+
+        boolean hasNext = remittances.size() > pageSize;
+        List<RemittanceSearchKeysetDto> content = hasNext ? remittances.subList(0, pageSize) : remittances;
+
+        return RemittanceSearchDto.Response.builder()
+                .content(content.stream().map(remittance -> remittance.toEntry(request.directionOrDefault())).toList())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? content.get(pageSize - 1).toCursor().encode() : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public Page<RemittanceDto> getRemittanceList(
             Pageable pageable, Long accountId, User user, LocalDateTime startDate, LocalDateTime endDate
     ) {
@@ -94,9 +317,31 @@ public class RemittanceService {
             throw new CustomException(RemittanceErrorCode.REMITTANCE_HISTORY_INQUIRY_PERIOD_LIMITED);
         }
 
-        Page<Remittance> remittanceList = remittanceRepository
-                .findAllByAccountAndCreatedAt(account, startDate, endDate, pageable);
+        return remittanceHistoryRouter.findPage(account, startDate, endDate, pageable);
+    }
+
+    // 기간 내 송금 이력을 COUNT 쿼리 없이 조회하고, 전체 건수는 일별 집계의 합으로 계산
+    @Transactional(readOnly = true)
+    public RemittanceSliceDto getRemittanceSlice(
+            Pageable pageable, Long accountId, User user, LocalDateTime startDate, LocalDateTime endDate
+    ) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CustomException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        if (!Objects.equals(account.getUser().getId(), user.getId())) {
+            throw new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH);
+        }
+
+        // 송금 이력 조회를 시작일부터 최대 1년까지만 가능하도록 설정
+        if (startDate.plusYears(1).isBefore(endDate)) {
+            throw new CustomException(RemittanceErrorCode.REMITTANCE_HISTORY_INQUIRY_PERIOD_LIMITED);
+        }
+
+        Slice<RemittanceDto> remittanceSlice = remittanceHistoryRouter
+                .findSlice(account, startDate, endDate, pageable);
+        long totalElements = dailyRemittanceRollupRepository.sumRemittanceCount(
+                accountId, startDate.toLocalDate(), endDate.toLocalDate()
+        );
 
-        return remittanceList.map(RemittanceDto::fromEntity);
+        return RemittanceSliceDto.of(remittanceSlice, totalElements);
     }
 }
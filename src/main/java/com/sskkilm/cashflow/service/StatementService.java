@@ -0,0 +1,193 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.dto.AccountNumberDto;
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.StatementDto;
+import com.sskkilm.cashflow.dto.StatementEntryDto;
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.enums.RemittanceErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.AccountRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자의 모든 계좌 송금 내역을 하나의 최신순 목록으로 조회
+// account_id IN (...) 정렬 조회는 (account_id, created_at, remittance_id) 인덱스 순서를 그대로 쓰지 못하므로
+// 계좌별 인덱스 범위 조회를 병렬로 실행하고, 각 계좌의 최신순 목록을 힙으로 k-way 병합
+// 조회 스레드 수는 parallelism을 지정하지 않으면 커넥션 풀 크기로 정함 (parallelismOf 참고)
+// 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면 기다리지 않고 SERVER_BUSY로 거절
+@Service
+public class StatementService {
+
+    private static final int MAX_STATEMENT_PAGE_SIZE = 100;
+    private static final Comparator<RemittanceKeysetDto> NEWEST_FIRST = Comparator
+            .comparing(RemittanceKeysetDto::createdAt)
+            .thenComparing(RemittanceKeysetDto::remittanceId)
+            .reversed();
+
+    private final AccountRepository accountRepository;
+    private final RemittanceHistoryRouter remittanceHistoryRouter;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    public StatementService(AccountRepository accountRepository,
+                            RemittanceHistoryRouter remittanceHistoryRouter,
+                            @Value("${cashflow.statement.parallelism:0}") int parallelism,
+                            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                            @Value("${cashflow.remittance-export.threads:2}") int exportThreads,
+                            @Value("${cashflow.async-remittance.workers:4}") int asyncRemittanceWorkers,
+                            @Value("${cashflow.statement.queue-capacity:1000}") int queueCapacity,
+                            @Value("${cashflow.statement.timeout-ms:10000}") long timeoutMillis) {
+        this.accountRepository = accountRepository;
+        this.remittanceHistoryRouter = remittanceHistoryRouter;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int threads = parallelismOf(parallelism, connectionPoolSize, exportThreads, asyncRemittanceWorkers);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 기본 AbortPolicy로 대기열이 가득 차면 RejectedExecutionException을 던짐
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "statement-query-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * parallelism이 0 이하이면 커넥션 풀에서 조회 스레드 수를 계산한다.
+     * 내보내기 스레드와 비동기 송금 워커는 작업이 끝날 때까지 커넥션을 하나씩 계속 잡고 있으므로 먼저 빼고,
+     * 남은 커넥션의 절반만 사용해서 나머지 절반은 송금/입출금 트랜잭션에 남긴다.
+     * 계좌별 조회는 인덱스 범위 조회 한 번으로 짧게 끝나므로 절반으로도 대기열이 빠르게 비워진다.
+     */
+    static int parallelismOf(int parallelism, int connectionPoolSize, int exportThreads, int asyncRemittanceWorkers) {
+        if (parallelism > 0) {
+            return parallelism;
+        }
+        return Math.max(1, (connectionPoolSize - exportThreads - asyncRemittanceWorkers) / 2);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * startDate ~ endDate 사이 송금 내역을 최신순으로 최대 size 건 조회한다.
+     * 계좌마다 size + 1 건을 조회하면 병합 결과의 size + 1 번째까지는 반드시 포함되므로 다음 페이지 여부를 판단할 수 있다.
+     * 각 계좌 조회는 별도 스레드에서 각자의 커넥션으로 실행되므로 이 메서드는 트랜잭션을 열지 않는다.
+     */
+    public StatementDto getStatement(
+            String after, int size, User user, LocalDateTime startDate, LocalDateTime endDate
+    ) {
+        // 송금 이력 조회를 시작일부터 최대 1년까지만 가능하도록 설정
+        if (startDate.plusYears(1).isBefore(endDate)) {
+            throw new CustomException(RemittanceErrorCode.REMITTANCE_HISTORY_INQUIRY_PERIOD_LIMITED);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_STATEMENT_PAGE_SIZE));
+        RemittanceCursor cursor = after == null || after.isBlank()
+                ? new RemittanceCursor(endDate, Long.MAX_VALUE) : RemittanceCursor.decode(after);
+
+        List<AccountNumberDto> accounts = accountRepository.findAccountNumbersByUser(user);
+        List<CompletableFuture<List<RemittanceKeysetDto>>> futures = new ArrayList<>(accounts.size());
+        try {
+            for (AccountNumberDto account : accounts) {
+                futures.add(CompletableFuture.supplyAsync(() -> remittanceHistoryRouter.findBetween(
+                        account.accountId(), startDate, cursor, pageSize + 1
+                ), executor));
+            }
+        } catch (RejectedExecutionException e) {
+            cancel(futures);
+            throw new CustomException(GlobalErrorCode.SERVER_BUSY);
+        }
+
+        PriorityQueue<StatementHead> heads = new PriorityQueue<>(
+                Math.max(1, accounts.size()), Comparator.comparing(StatementHead::current, NEWEST_FIRST)
+        );
+        long deadline = System.nanoTime() + timeoutNanos;
+        for (int i = 0; i < accounts.size(); i++) {
+            Iterator<RemittanceKeysetDto> remittances = join(futures, i, deadline).iterator();
+            if (remittances.hasNext()) {
+                heads.add(new StatementHead(accounts.get(i).accountNumber(), remittances.next(), remittances));
+            }
+        }
+
+        List<StatementEntryDto> content = new ArrayList<>(pageSize);
+        RemittanceKeysetDto last = null;
+        while (!heads.isEmpty() && content.size() < pageSize) {
+            StatementHead head = heads.poll();
+            last = head.current();
+            content.add(head.toStatementEntryDto());
+            if (head.remaining().hasNext()) {
+                heads.add(new StatementHead(head.accountNumber(), head.remaining().next(), head.remaining()));
+            }
+        }
+        boolean hasNext = !heads.isEmpty();
+
+        return StatementDto.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? last.toCursor().encode() : null)
+                .build();
+    }
+
+    // 모든 계좌 조회가 deadline 안에 끝나야 하며, 실패하면 아직 대기 중인 조회는 실행하지 않도록 취소
+    private List<RemittanceKeysetDto> join(
+            List<CompletableFuture<List<RemittanceKeysetDto>>> futures, int index, long deadline
+    ) {
+        try {
+            return futures.get(index).get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancel(futures);
+            throw new CustomException(GlobalErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(futures);
+            throw new CustomException(GlobalErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void cancel(List<CompletableFuture<List<RemittanceKeysetDto>>> futures) {
+        futures.forEach(future -> future.cancel(false));
+    }
+
+    // 계좌별 최신순 목록에서 아직 병합하지 않은 첫 송금
+    private record StatementHead(
+            String accountNumber,
+            RemittanceKeysetDto current,
+            Iterator<RemittanceKeysetDto> remaining
+    ) {
+        StatementEntryDto toStatementEntryDto() {
+            return StatementEntryDto.builder()
+                    .accountNumber(accountNumber)
+                    .receivingAccountNumber(current.receivingAccountNumber())
+                    .remittanceAmount(current.amount())
+                    .accountBalanceSnapshot(current.accountBalanceSnapshot())
+                    .createdAt(current.createdAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.entity.RevokedToken;
+import com.sskkilm.cashflow.enums.UserErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.RevokedTokenRepository;
+import com.sskkilm.cashflow.util.BloomFilter;
+import com.sskkilm.cashflow.util.ClusterJobLock;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 로그아웃한 토큰의 jti를 revoked_token 테이블에 저장하고, 메모리의 Bloom filter + 정확한 집합으로 폐기 여부를 판단
+// 대부분의 요청은 폐기되지 않은 토큰이므로 Bloom filter 확인만으로 끝나고, 오탐일 때만 집합을 확인
+// 다른 서버에서 폐기한 토큰은 load 주기마다 마지막으로 읽은 뒤 폐기된 jti만 읽어서 현재 filter와 집합에 추가
+// filter는 만료된 jti를 비우기 위해 rebuild 주기(또는 용량 초과)마다 메모리의 집합으로 다시 만듦
+@Service
+public class TokenRevocationService {
+
+    private static final String PURGE_LOCK = "cashflow.revoked-token-purge";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final ClusterJobLock clusterJobLock;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final long loadOverlapMillis;
+    private final int purgeBatchSize;
+    private volatile RevokedTokens revokedTokens;
+    // 폐기, 추가, 교체가 겹쳐서 방금 폐기한 jti가 새 집합에서 빠지지 않도록 함 (isRevoked는 잠그지 않음)
+    private final Object swapLock = new Object();
+    // 마지막으로 읽은 jti의 폐기 시각, null이면 아직 한번도 읽지 않음
+    private LocalDateTime lastRevokedAt;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  ClusterJobLock clusterJobLock,
+                                  @Value("${cashflow.token-revocation.expected-revocations:100000}") int expectedRevocations,
+                                  @Value("${cashflow.token-revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${cashflow.token-revocation.load-overlap-ms:60000}") long loadOverlapMillis,
+                                  @Value("${cashflow.token-revocation.purge-batch-size:1000}") int purgeBatchSize) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.clusterJobLock = clusterJobLock;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.loadOverlapMillis = loadOverlapMillis;
+        this.purgeBatchSize = purgeBatchSize;
+        this.revokedTokens = RevokedTokens.of(expectedRevocations, falsePositiveRate, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 토큰의 jti를 토큰 만료 시각까지 폐기한다.
+     * jti가 없는 이전 토큰은 폐기할 수 없으므로 만료될 때까지 사용된다.
+     */
+    @Transactional
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            throw new CustomException(UserErrorCode.TOKEN_NOT_REVOCABLE);
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(expiresAt)
+                .build());
+        synchronized (swapLock) {
+            revokedTokens.add(jti, claims.getExpiration().getTime());
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        RevokedTokens current = revokedTokens;
+        return current.filter().mightContain(jti) && current.expiresAt().containsKey(jti);
+    }
+
+    /**
+     * 마지막으로 읽은 뒤에 폐기된 jti를 테이블에서 읽어서 현재 filter와 집합에 추가한다.
+     * 폐기 시각보다 늦게 커밋되거나 서버 시계가 어긋난 jti를 놓치지 않도록 load-overlap-ms만큼 겹쳐서 읽는다.
+     * 처음 실행될 때는 만료되지 않은 jti를 모두 읽으며, 애플리케이션이 시작되면 바로 한번 실행된다.
+     */
+    @Scheduled(fixedDelayString = "${cashflow.token-revocation.load-interval-ms:10000}")
+    @Transactional(readOnly = true)
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastRevokedAt;
+        List<RevokedToken> revoked = since == null
+                ? revokedTokenRepository.findAllByExpiresAtAfter(now)
+                : revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(
+                since.minus(loadOverlapMillis, ChronoUnit.MILLIS), now);
+
+        LocalDateTime latest = since == null ? now : since;
+        boolean full;
+        synchronized (swapLock) {
+            for (RevokedToken revokedToken : revoked) {
+                revokedTokens.add(revokedToken.getJti(),
+                        revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                if (revokedToken.getRevokedAt() != null && revokedToken.getRevokedAt().isAfter(latest)) {
+                    latest = revokedToken.getRevokedAt();
+                }
+            }
+            full = revokedTokens.expiresAt().size() > revokedTokens.capacity();
+        }
+        lastRevokedAt = latest;
+
+        // filter에 설계 용량보다 많이 들어가면 오탐률이 올라가므로 바로 다시 만듦
+        if (full) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 메모리의 집합에서 만료된 jti를 빼고 남은 jti로 Bloom filter를 새로 만든다.
+     * Bloom filter는 항목을 제거할 수 없으므로 만료된 jti를 비우려면 다시 만들어야 한다.
+     * 테이블은 다시 읽지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${cashflow.token-revocation.rebuild-interval-ms:3600000}",
+            initialDelayString = "${cashflow.token-revocation.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long now = System.currentTimeMillis();
+        synchronized (swapLock) {
+            Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+            revokedTokens.expiresAt().forEach((jti, expiresAtMillis) -> {
+                if (expiresAtMillis > now) {
+                    expiresAt.put(jti, expiresAtMillis);
+                }
+            });
+            revokedTokens = RevokedTokens.of(
+                    Math.max(expectedRevocations, expiresAt.size() * 2), falsePositiveRate, expiresAt
+            );
+        }
+    }
+
+    /**
+     * 만료된 jti를 테이블에서 purge-batch-size개씩 지운다 (batch마다 별도 트랜잭션).
+     * 모든 서버에서 실행되지만 MySQL 이름 잠금(GET_LOCK)을 얻은 서버 하나만 삭제하고 나머지는 바로 끝낸다.
+     */
+    @Scheduled(fixedDelayString = "${cashflow.token-revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        clusterJobLock.runExclusively(PURGE_LOCK, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            int deleted;
+            do {
+                deleted = revokedTokenRepository.deleteExpired(now, purgeBatchSize);
+            } while (deleted == purgeBatchSize);
+        });
+    }
+
+    // filter에 먼저 넣고 집합에 넣어서, 집합에 있는 jti는 항상 filter도 통과하도록 함
+    private record RevokedTokens(BloomFilter filter, int capacity, Map<String, Long> expiresAt) {
+        static RevokedTokens of(int capacity, double falsePositiveRate, Map<String, Long> expiresAt) {
+            BloomFilter filter = new BloomFilter(capacity, falsePositiveRate);
+            expiresAt.keySet().forEach(filter::put);
+            return new RevokedTokens(filter, capacity, expiresAt);
+        }
+
+        void add(String jti, long expiresAtMillis) {
+            filter.put(jti);
+            expiresAt.put(jti, expiresAtMillis);
+        }
+    }
+}
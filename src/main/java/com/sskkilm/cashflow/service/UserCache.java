@@ -0,0 +1,42 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.UserErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.UserRepository;
+import com.sskkilm.cashflow.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// loginId -> User 를 캐시하여 전체 User가 필요한 인증에서 매 요청마다 사용자를 조회하지 않도록 함
+// 로그인(비밀번호 검증)은 항상 UserService.loadUserByUsername으로 DB에서 다시 읽음
+// 사용자 정보를 변경하면 evict로 캐시를 비워야 함
+@Service
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final LruCache<String, User> users;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${cashflow.user-cache.size:10000}") int cacheSize) {
+        this.userRepository = userRepository;
+        this.users = new LruCache<>(cacheSize);
+    }
+
+    public User get(String loginId) {
+        User user = users.get(loginId);
+        if (user != null) {
+            return user;
+        }
+
+        user = userRepository.findByLoginId(loginId)
+                .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+        users.put(loginId, user);
+
+        return user;
+    }
+
+    public void evict(String loginId) {
+        users.remove(loginId);
+    }
+}
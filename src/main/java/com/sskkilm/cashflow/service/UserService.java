@@ -8,17 +8,20 @@ import com.sskkilm.cashflow.exception.CustomException;
 import com.sskkilm.cashflow.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
     public JoinDto.Response createUser(JoinDto.Request request) {
         if (userRepository.existsByLoginId(request.loginId())) {
@@ -27,7 +30,7 @@ public class UserService implements UserDetailsService {
 
         User user = userRepository.save(User.builder()
                 .loginId(request.loginId())
-                .password(bCryptPasswordEncoder.encode(request.password()))
+                .password(passwordEncoder.encode(request.password()))
                 .role(Authority.ROLE_USER)
                 .build());
 
@@ -41,4 +44,16 @@ public class UserService implements UserDetailsService {
 
         return user;
     }
+
+    // 로그인 성공 후 저장된 해시의 cost가 설정값보다 낮으면 DaoAuthenticationProvider가 새 해시로 호출
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByLoginId(userDetails.getUsername())
+                .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+        user.changePassword(newPassword);
+        userCache.evict(user.getLoginId());
+
+        return user;
+    }
 }
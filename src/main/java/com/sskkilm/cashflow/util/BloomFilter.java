@@ -0,0 +1,62 @@
+package com.sskkilm.cashflow.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 집합에 "없음"을 확실하게 판단하는 스레드 안전 Bloom filter, 추가만 가능하고 제거는 불가능
+// 해시 두 개를 조합해서 k개의 비트 위치를 만듦 (Kirsch-Mitzenmacher 방식)
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int insertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(
+                -insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))
+        );
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitSize = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + (long) i * hash2, bitSize);
+            long mask = 1L << bitIndex;
+            bits.getAndAccumulate((int) (bitIndex >>> 6), mask, (current, bit) -> current | bit);
+        }
+    }
+
+    // false면 추가된 적이 없음, true면 추가되었거나 오탐
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + (long) i * hash2, bitSize);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64bit 해시에 MurmurHash3 fmix64로 비트를 섞음
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
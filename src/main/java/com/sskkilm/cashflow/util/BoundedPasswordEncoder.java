@@ -0,0 +1,147 @@
+package com.sskkilm.cashflow.util;
+
+import com.sskkilm.cashflow.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// BCrypt 해시/검증을 전용 스레드 풀에서만 실행해서 로그인이 몰려도 요청 스레드가 CPU를 점유하지 않도록 함
+// 큐가 가득 차거나 대기 시간이 timeout을 넘으면 바로 거절 (PasswordHashingRejectedException -> 503)
+// 이미 시작된 BCrypt는 취소해도 멈추지 않으므로, 대기 작업 수 x 평균 해시 시간으로 예상한 대기 시간이 timeout을 넘으면
+// 큐에 넣기 전에 거절해서 어차피 버려질 해시에 CPU를 쓰지 않도록 함
+// 대기 작업이 없으면 예상과 관계없이 실행해서, 평균이 한번 timeout을 넘어도 다음 해시로 다시 측정되도록 함
+// 지표: cashflow.password.queue (대기 작업 수), cashflow.password.hash (해시 소요 시간), cashflow.password.rejected
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long timeoutMillis;
+    // 최근 해시 소요 시간의 지수 이동 평균 (ns), 아직 측정하지 않았으면 0
+    private final AtomicLong averageHashNanos = new AtomicLong();
+    private volatile Timer hashTimer;
+    private volatile Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long timeoutMillis) {
+        this(new BCryptPasswordEncoder(strength), threads, queueCapacity, timeoutMillis);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMillis) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.threads = threads;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cashflow.password.queue", executor, e -> e.getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수")
+                .register(registry);
+        hashTimer = Timer.builder("cashflow.password.hash")
+                .description("비밀번호 해시/검증 소요 시간")
+                .register(registry);
+        rejectedCounter = Counter.builder("cashflow.password.rejected")
+                .description("작업 큐가 가득 차거나 대기 시간 초과로 거절된 요청 수")
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost가 설정값보다 낮으면 로그인 성공 시 UserDetailsPasswordService로 다시 해시해서 저장
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        if (!executor.getQueue().isEmpty()
+                && estimatedWaitNanos() > TimeUnit.MILLISECONDS.toNanos(timeoutMillis)) {
+            throw reject("password hashing queue is too long");
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    recordHash(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("password hashing queue is full");
+        }
+
+        // 취소하면 아직 대기 중인 작업은 실행되지 않고, 이미 시작된 해시는 끝까지 실행됨
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw reject("password hashing timed out");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw reject("interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 앞에 대기 중인 작업과 이 작업이 모두 끝날 때까지 걸릴 것으로 예상되는 시간
+    private long estimatedWaitNanos() {
+        return (executor.getQueue().size() + threads) * averageHashNanos.get() / threads;
+    }
+
+    private void recordHash(long elapsedNanos) {
+        averageHashNanos.accumulateAndGet(elapsedNanos,
+                (average, sample) -> average == 0 ? sample : average + (sample - average) / 8);
+        Timer timer = hashTimer;
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private PasswordHashingRejectedException reject(String message) {
+        Counter counter = rejectedCounter;
+        if (counter != null) {
+            counter.increment();
+        }
+        return new PasswordHashingRejectedException(message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.sskkilm.cashflow.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// 모든 서버에서 실행되는 스케줄 작업을 MySQL 이름 잠금(GET_LOCK)을 얻은 서버 하나만 실행하도록 함
+// 이름 잠금은 세션 단위이므로 작업이 끝날 때까지 잠금을 얻은 커넥션을 잡아두고, 작업은 각자의 트랜잭션에서 실행
+@Component
+@RequiredArgsConstructor
+public class ClusterJobLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 잠금을 얻으면 job을 실행하고 true를 반환한다.
+     * 다른 서버가 잠금을 갖고 있으면 기다리지 않고 false를 반환한다.
+     * 서버가 중단되면 커넥션이 끊기면서 잠금도 해제된다.
+     */
+    public boolean runExclusively(String name, Runnable job) {
+        Boolean executed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!call(connection, "Select GET_LOCK(?, 0)", name)) {
+                return false;
+            }
+            try {
+                job.run();
+            } finally {
+                call(connection, "Select RELEASE_LOCK(?)", name);
+            }
+            return true;
+        });
+
+        return Boolean.TRUE.equals(executed);
+    }
+
+    private boolean call(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+}
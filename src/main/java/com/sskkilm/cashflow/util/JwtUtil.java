@@ -1,42 +1,113 @@
 package com.sskkilm.cashflow.util;
 
-import com.sskkilm.cashflow.service.UserService;
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.Authority;
+import com.sskkilm.cashflow.service.UserCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 public class JwtUtil {
     private final SecretKey secretKey;
-    private final UserService userService;
+    // 파서는 불변이고 스레드 안전하므로 한번만 생성
+    private final JwtParser jwtParser;
+    // 서명 검증이 끝난 claims를 토큰 해시로 캐시, 토큰의 만료 시각이 지나면 사용하지 않음
+    // 모든 인증 요청이 읽으므로 전역 잠금이 없는 ConcurrentHashMap을 쓰고, LRU 대신 만료된 항목을 주기적으로 정리
+    private final Map<String, Claims> verifiedClaims = new ConcurrentHashMap<>();
+    private final int claimsCacheSize;
+    private final AtomicBoolean pruning = new AtomicBoolean();
+    // true면 토큰의 userId, role claim으로 principal을 만들고 사용자 조회를 생략
+    private final boolean principalFromClaims;
+    private final UserCache userCache;
 
     public JwtUtil(@Value("${spring.jwt.secret}") String secret,
-                   UserService userService) {
+                   @Value("${cashflow.jwt.claims-cache-size:10000}") int claimsCacheSize,
+                   @Value("${cashflow.jwt.principal-from-claims:true}") boolean principalFromClaims,
+                   UserCache userCache) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
-        this.userService = userService;
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.claimsCacheSize = claimsCacheSize;
+        this.principalFromClaims = principalFromClaims;
+        this.userCache = userCache;
     }
 
-    public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token).getPayload().get("loginId", String.class);
+    /**
+     * 서명과 만료 시각을 한번에 검증하고 claims를 반환한다.
+     * 이미 검증한 토큰은 만료 전까지 캐시된 claims를 그대로 사용한다.
+     * 서명이 잘못되었거나 만료된 토큰은 JwtException을 던진다.
+     */
+    public Claims verify(String token) {
+        String tokenHash = hash(token);
+        Claims claims = verifiedClaims.get(tokenHash);
+        if (claims != null && !isExpired(claims, System.currentTimeMillis())) {
+            return claims;
+        }
+        if (claims != null) {
+            verifiedClaims.remove(tokenHash, claims);
+        }
+
+        claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (verifiedClaims.size() >= claimsCacheSize) {
+            pruneClaims();
+        }
+        verifiedClaims.put(tokenHash, claims);
+
+        return claims;
+    }
+
+    @Scheduled(fixedDelayString = "${cashflow.jwt.claims-prune-interval-ms:60000}")
+    public void pruneExpiredClaims() {
+        long now = System.currentTimeMillis();
+        verifiedClaims.values().removeIf(claims -> isExpired(claims, now));
+    }
+
+    // 캐시가 가득 차면 한 스레드만 만료된 항목을 정리하고, 그래도 가득 차 있으면 비움 (다음 요청에서 다시 검증)
+    private void pruneClaims() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            pruneExpiredClaims();
+            if (verifiedClaims.size() >= claimsCacheSize) {
+                verifiedClaims.clear();
+            }
+        } finally {
+            pruning.set(false);
+        }
     }
 
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+    private boolean isExpired(Claims claims, long now) {
+        return claims.getExpiration().getTime() <= now;
     }
 
-    public String createJwt(String username, String role, Long expiredMs) {
+    public String getUsername(String token) {
+        return verify(token).get("loginId", String.class);
+    }
+
+    public String createJwt(Long userId, String username, String role, Long expiredMs) {
         return Jwts.builder()
+                // 로그아웃할 때 토큰을 폐기하기 위한 식별자
+                .id(UUID.randomUUID().toString())
+                .claim("userId", userId)
                 .claim("loginId", username)
                 .claim("role", role)
                 .issuedAt(new Date(System.currentTimeMillis()))
@@ -45,11 +116,41 @@ public class JwtUtil {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        String loginId = this.getUsername(token);
-        UserDetails userDetails = userService.loadUserByUsername(loginId);
-        return new UsernamePasswordAuthenticationToken(
-                userDetails, "", userDetails.getAuthorities()
+    /**
+     * 서명이 검증된 claims만으로 principal(User)을 만든다.
+     * principal은 id, loginId, role만 가지므로 비밀번호 등 다른 정보가 필요한 곳에서는 UserCache를 사용한다.
+     * userId claim이 없는 이전 토큰이거나 claims 모드가 꺼져 있으면 UserCache에서 사용자를 읽는다.
+     * 로그아웃에서 토큰의 jti와 만료 시각을 사용할 수 있도록 claims를 details에 담는다.
+     */
+    public Authentication getAuthentication(Claims claims) {
+        String loginId = claims.get("loginId", String.class);
+        Long userId = claims.get("userId", Long.class);
+        String role = claims.get("role", String.class);
+
+        User user = principalFromClaims && userId != null && role != null
+                ? User.builder()
+                .id(userId)
+                .loginId(loginId)
+                .role(Authority.valueOf(role))
+                .build()
+                : userCache.get(loginId);
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                user, "", user.getAuthorities()
         );
+        authentication.setDetails(claims);
+
+        return authentication;
+    }
+
+    // 토큰 원문 대신 해시를 키로 사용해서 캐시가 토큰을 보관하지 않도록 함
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
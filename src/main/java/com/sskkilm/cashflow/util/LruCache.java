@@ -0,0 +1,83 @@
+package com.sskkilm.cashflow.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하는 스레드 안전 캐시
+// 접근 순서를 갱신하는 get도 쓰기이므로, 키의 해시로 나눈 세그먼트마다 따로 잠가서 요청 스레드가 하나의 잠금에 몰리지 않도록 함
+// LRU 순서와 최대 크기는 세그먼트 단위로 지켜짐 (세그먼트마다 maxSize / segments개)
+public class LruCache<K, V> {
+
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+
+    public LruCache(int maxSize) {
+        this(maxSize, DEFAULT_SEGMENTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public LruCache(int maxSize, int segmentCount) {
+        int count = Math.max(1, Math.min(segmentCount, maxSize));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // 나머지는 앞쪽 세그먼트에 하나씩 더 배정하여 전체 크기가 maxSize를 넘지 않도록 함
+            this.segments[i] = new Segment<>(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+    }
+
+    public V get(K key) {
+        return segmentOf(key).get(key);
+    }
+
+    public void put(K key, V value) {
+        segmentOf(key).put(key, value);
+    }
+
+    public void remove(K key) {
+        segmentOf(key).remove(key);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentOf(K key) {
+        int hash = key.hashCode();
+        return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+    }
+
+    private static class Segment<K, V> {
+
+        private final Map<K, V> entries;
+
+        Segment(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized V get(K key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(K key, V value) {
+            entries.put(key, value);
+        }
+
+        synchronized void remove(K key) {
+            entries.remove(key);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
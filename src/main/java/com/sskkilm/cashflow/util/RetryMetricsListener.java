@@ -0,0 +1,41 @@
+package com.sskkilm.cashflow.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+// @Retryable 메소드 전체와 AccountCommandSerializer의 재시도에 적용되어 재시도/포기 횟수를 집계 (/actuator/metrics/cashflow.retry.*)
+@Component
+public class RetryMetricsListener implements RetryListener {
+
+    private final Counter retryCounter;
+    private final Counter abortCounter;
+
+    public RetryMetricsListener(MeterRegistry meterRegistry) {
+        this.retryCounter = Counter.builder("cashflow.retry.attempts")
+                .description("동시성 충돌로 인한 재시도 횟수")
+                .register(meterRegistry);
+        this.abortCounter = Counter.builder("cashflow.retry.aborts")
+                .description("재시도 횟수를 모두 소진하여 실패한 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        int failedAttempts = context.getRetryCount();
+        if (throwable == null) {
+            retryCounter.increment(failedAttempts);
+            return;
+        }
+
+        // 마지막 실패는 재시도되지 않았으므로 제외
+        retryCounter.increment(Math.max(failedAttempts - 1, 0));
+        if (throwable instanceof ConcurrencyFailureException) {
+            abortCounter.increment();
+        }
+    }
+}
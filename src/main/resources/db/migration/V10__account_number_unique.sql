@@ -0,0 +1,4 @@
+-- 수금 계좌번호 -> account_id 조회 (AccountNumberResolver), 계좌번호는 계좌마다 하나여야 함
+-- 중복된 계좌번호가 있으면 이 마이그레이션은 실패하므로 먼저 확인 후 정리
+-- SELECT account_number, COUNT(*) FROM account GROUP BY account_number HAVING COUNT(*) > 1;
+ALTER TABLE account ADD CONSTRAINT uk_accountNumber UNIQUE (account_number);
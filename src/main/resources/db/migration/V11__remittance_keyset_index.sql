@@ -0,0 +1,5 @@
+-- 커서 조회의 (created_at, remittance_id) 정렬과 조건을 인덱스만으로 처리하도록 remittance_id를 추가
+-- account FK가 이 인덱스를 사용하므로 삭제와 추가를 한 문장에서 실행
+ALTER TABLE remittance
+    DROP INDEX idx_account_createdAt,
+    ADD INDEX idx_account_createdAt (account_id, created_at DESC, remittance_id DESC);
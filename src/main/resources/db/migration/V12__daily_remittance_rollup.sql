@@ -0,0 +1,16 @@
+-- 계좌의 일별 송금 집계, 기간 조회의 전체 건수를 송금 이력 대신 기간 내 일수만큼의 row 합으로 계산
+CREATE TABLE daily_remittance_rollup
+(
+    daily_remittance_rollup_id BIGINT NOT NULL AUTO_INCREMENT,
+    account_id                 BIGINT,
+    remittance_date            DATE,
+    remittance_count           BIGINT,
+    PRIMARY KEY (daily_remittance_rollup_id),
+    CONSTRAINT uk_account_remittanceDate UNIQUE (account_id, remittance_date)
+) ENGINE = InnoDB;
+
+-- 기존 송금 이력을 집계에 반영
+INSERT INTO daily_remittance_rollup (account_id, remittance_date, remittance_count)
+SELECT account_id, DATE(created_at), COUNT(*)
+FROM remittance
+GROUP BY account_id, DATE(created_at);
@@ -0,0 +1,18 @@
+-- hot 보관 기간이 지난 월 파티션의 송금 이력을 옮겨두는 조회 전용 테이블 (RemittancePartitionManager가 채움)
+-- 계좌 삭제 후에도 이력이 남도록 account에 FK를 두지 않음
+CREATE TABLE remittance_cold
+(
+    remittance_id            BIGINT NOT NULL,
+    receiving_account_number VARCHAR(255),
+    amount                   INT,
+    account_balance_snapshot INT,
+    account_id               BIGINT,
+    created_at               DATETIME(6),
+    PRIMARY KEY (remittance_id)
+) ENGINE = InnoDB;
+
+-- 계좌별 최신순 조회, 커서 조회, 검색 (account_id = ? And created_at < ? Order By created_at Desc, remittance_id Desc)
+CREATE INDEX idx_cold_account_createdAt ON remittance_cold (account_id, created_at DESC, remittance_id DESC);
+
+-- remittance 테이블의 월별 파티션 전환은 테이블을 다시 쓰는 작업이라 자동으로 실행하지 않음
+-- cashflow.remittance-partition.enabled를 켜기 전에 db/optional/remittance_partitioning.sql을 실행
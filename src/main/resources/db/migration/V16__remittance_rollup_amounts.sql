@@ -0,0 +1,29 @@
+-- 일별 송금 집계에 보낸/받은 송금 금액과 송금 후 잔액 최소/최대를 추가
+ALTER TABLE daily_remittance_rollup
+    ADD COLUMN sent_amount          BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN received_amount      BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN min_balance_snapshot INT,
+    ADD COLUMN max_balance_snapshot INT;
+
+-- 일별 송금 집계에 반영할 분개 표시, 송금 입금 분개만 false로 추가되고 집계 트랜잭션에서 true로 바뀜
+-- 기존 분개는 아래에서 송금 이력으로 집계하므로 모두 반영된 것으로 둠
+ALTER TABLE ledger_entry
+    ADD COLUMN rolled_up BIT(1) NOT NULL DEFAULT 1;
+
+-- 집계할 분개 조회 (rolled_up = false Order By ledger_entry_id)
+CREATE INDEX idx_rolledUp_ledgerEntry ON ledger_entry (rolled_up, ledger_entry_id);
+
+-- 기존 송금 이력을 집계에 반영 (송금 후 잔액은 기록되지 않았으므로 null)
+UPDATE daily_remittance_rollup r
+    JOIN (SELECT account_id, DATE(created_at) AS remittance_date, SUM(amount) AS amount
+          FROM remittance
+          GROUP BY account_id, DATE(created_at)) s
+    ON s.account_id = r.account_id AND s.remittance_date = r.remittance_date
+SET r.sent_amount = s.amount;
+
+INSERT INTO daily_remittance_rollup (account_id, remittance_date, remittance_count, sent_amount, received_amount)
+SELECT a.account_id, DATE(r.created_at), 0, 0, SUM(r.amount)
+FROM remittance r
+         JOIN account a ON a.account_number = r.receiving_account_number
+GROUP BY a.account_id, DATE(r.created_at)
+ON DUPLICATE KEY UPDATE received_amount = VALUES(received_amount);
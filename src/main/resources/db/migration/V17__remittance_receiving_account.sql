@@ -0,0 +1,19 @@
+-- 받은 송금 조회를 위해 수금 계좌 id를 저장 (계좌 삭제 후에도 이력이 남도록 FK는 두지 않음)
+ALTER TABLE remittance
+    ADD COLUMN receiving_account_id BIGINT,
+    ADD INDEX idx_receivingAccount_createdAt (receiving_account_id, created_at DESC, remittance_id DESC);
+
+ALTER TABLE remittance_cold
+    ADD COLUMN receiving_account_id BIGINT,
+    ADD INDEX idx_cold_receivingAccount_createdAt (receiving_account_id, created_at DESC, remittance_id DESC);
+
+-- 기존 송금 이력은 수금 계좌번호로 수금 계좌 id를 채움 (이미 삭제된 계좌는 null로 남음)
+UPDATE remittance r
+    JOIN account a ON a.account_number = r.receiving_account_number
+SET r.receiving_account_id = a.account_id
+WHERE r.receiving_account_id IS NULL;
+
+UPDATE remittance_cold r
+    JOIN account a ON a.account_number = r.receiving_account_number
+SET r.receiving_account_id = a.account_id
+WHERE r.receiving_account_id IS NULL;
@@ -0,0 +1,40 @@
+-- 기존 스키마 (user, account, remittance)
+-- 이미 운영 중인 DB는 spring.flyway.baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용
+
+CREATE TABLE user
+(
+    user_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    login_id    VARCHAR(255),
+    password    VARCHAR(255),
+    role        VARCHAR(255),
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE account
+(
+    account_id     BIGINT NOT NULL AUTO_INCREMENT,
+    account_number VARCHAR(255),
+    balance        INT,
+    status         VARCHAR(255),
+    user_id        BIGINT,
+    created_at     DATETIME(6),
+    modified_at    DATETIME(6),
+    PRIMARY KEY (account_id),
+    CONSTRAINT fk_account_user FOREIGN KEY (user_id) REFERENCES user (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE remittance
+(
+    remittance_id            BIGINT NOT NULL AUTO_INCREMENT,
+    receiving_account_number VARCHAR(255),
+    amount                   INT,
+    account_balance_snapshot INT,
+    account_id               BIGINT,
+    created_at               DATETIME(6),
+    PRIMARY KEY (remittance_id),
+    CONSTRAINT fk_remittance_account FOREIGN KEY (account_id) REFERENCES account (account_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_account_createdAt ON remittance (account_id, created_at DESC);
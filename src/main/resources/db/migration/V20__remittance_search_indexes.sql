@@ -0,0 +1,6 @@
+-- 송금 이력 검색 (금액 범위, 상대 계좌번호 앞자리)이 계좌별 복합 인덱스의 범위 탐색이 되도록 추가
+-- cold 테이블은 조회가 드물어 계좌별 (account_id | receiving_account_id, created_at) 인덱스만 사용
+ALTER TABLE remittance
+    ADD INDEX idx_account_amount (account_id, amount),
+    ADD INDEX idx_account_receivingAccountNumber (account_id, receiving_account_number),
+    ADD INDEX idx_receivingAccount_amount (receiving_account_id, amount);
@@ -0,0 +1,13 @@
+-- 로그아웃으로 폐기한 토큰의 jti, 토큰 만료 시각이 지나면 삭제
+CREATE TABLE revoked_token
+(
+    jti        VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6),
+    revoked_at DATETIME(6),
+    PRIMARY KEY (jti)
+) ENGINE = InnoDB;
+
+-- 시작 시 만료되지 않은 jti 조회와 만료된 jti 삭제 (expires_at > ? / expires_at <= ?)
+CREATE INDEX idx_expiresAt ON revoked_token (expires_at);
+-- 다른 서버가 마지막으로 읽은 뒤에 폐기된 jti 조회 (revoked_at > ?)
+CREATE INDEX idx_revokedAt ON revoked_token (revoked_at);
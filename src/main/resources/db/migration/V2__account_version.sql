@@ -0,0 +1,3 @@
+-- @Version 낙관적 잠금, 기존 계좌는 0부터 시작
+ALTER TABLE account
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
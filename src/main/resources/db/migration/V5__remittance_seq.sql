@@ -0,0 +1,15 @@
+-- Remittance의 pooled 시퀀스(allocationSize 50), MySQL에는 시퀀스가 없으므로 Hibernate가 이 테이블로 흉내냄
+-- 서버는 next_val을 50씩 올리고 (next_val - 49 ~ next_val) 범위의 id를 메모리에서 할당
+CREATE TABLE remittance_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+-- 기존 AUTO_INCREMENT id와 겹치지 않도록 마지막 id보다 할당 단위만큼 큰 값에서 시작
+INSERT INTO remittance_seq (next_val)
+SELECT COALESCE(MAX(remittance_id), 0) + 51
+FROM remittance;
+
+-- 새 id는 시퀀스로 할당하므로 AUTO_INCREMENT를 제거
+ALTER TABLE remittance
+    MODIFY remittance_id BIGINT NOT NULL;
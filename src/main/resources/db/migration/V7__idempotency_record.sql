@@ -0,0 +1,15 @@
+-- Idempotency-Key 요청의 선점과 저장된 응답, response_body가 null이면 처리 중
+CREATE TABLE idempotency_record
+(
+    idempotency_record_id BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id               BIGINT,
+    idempotency_key       VARCHAR(64),
+    request_hash          VARCHAR(64),
+    response_body         LONGTEXT,
+    created_at            DATETIME(6),
+    PRIMARY KEY (idempotency_record_id),
+    CONSTRAINT uk_user_idempotencyKey UNIQUE (user_id, idempotency_key)
+) ENGINE = InnoDB;
+
+-- 보관 기간(cashflow.idempotency.ttl-ms)이 지난 기록 삭제 (created_at < ?)
+CREATE INDEX idx_createdAt ON idempotency_record (created_at);
@@ -0,0 +1,20 @@
+-- 비동기 송금 요청, 워커가 처리하면 COMPLETED 또는 FAILED로 변경됨
+CREATE TABLE remittance_request
+(
+    remittance_request_id    BIGINT NOT NULL AUTO_INCREMENT,
+    user_id                  BIGINT,
+    account_id               BIGINT,
+    receiving_account_number VARCHAR(255),
+    amount                   INT,
+    status                   VARCHAR(255),
+    remittance_id            BIGINT,
+    error_code               VARCHAR(255),
+    error_message            VARCHAR(255),
+    created_at               DATETIME(6),
+    modified_at              DATETIME(6),
+    PRIMARY KEY (remittance_request_id),
+    CONSTRAINT fk_remittanceRequest_user FOREIGN KEY (user_id) REFERENCES user (user_id)
+) ENGINE = InnoDB;
+
+-- 워커에 전달되지 못하고 남은 요청을 오래된 순으로 다시 가져감 (status = 'PENDING' And created_at < ? Order By created_at)
+CREATE INDEX idx_status_createdAt ON remittance_request (status, created_at);
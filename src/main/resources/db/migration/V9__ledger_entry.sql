@@ -0,0 +1,29 @@
+-- 잔액 변경을 기록하는 원장, account.balance는 compacted 분개까지 반영된 스냅샷
+CREATE TABLE ledger_entry
+(
+    ledger_entry_id BIGINT  NOT NULL AUTO_INCREMENT,
+    transaction_id  VARCHAR(36),
+    account_id      BIGINT,
+    type            VARCHAR(255),
+    amount          INT,
+    compacted       BIT(1)  NOT NULL DEFAULT 0,
+    created_at      DATETIME(6),
+    PRIMARY KEY (ledger_entry_id)
+) ENGINE = InnoDB;
+
+-- 잔액 계산과 계좌별 스냅샷 갱신 (account_id = ? And compacted = false)
+CREATE INDEX idx_account_compacted_ledgerEntry ON ledger_entry (account_id, compacted, ledger_entry_id);
+-- 스냅샷 갱신 대상 계좌 조회 (compacted = false)
+CREATE INDEX idx_compacted_account ON ledger_entry (compacted, account_id);
+
+-- 기존 잔액은 이미 스냅샷(account.balance)이므로 잔액을 바꾸지 않고, 원장에서 추적할 수 있도록
+-- 계좌 입금 분개와 외부 계정 출금 분개를 compacted 상태의 개설 분개로 남김
+INSERT INTO ledger_entry (transaction_id, account_id, type, amount, compacted, created_at)
+SELECT CONCAT('opening-', account_id), account_id, 'OPENING', balance, 1, NOW(6)
+FROM account
+WHERE balance <> 0;
+
+INSERT INTO ledger_entry (transaction_id, account_id, type, amount, compacted, created_at)
+SELECT CONCAT('opening-', account_id), NULL, 'OPENING', -balance, 1, NOW(6)
+FROM account
+WHERE balance <> 0;
@@ -0,0 +1,34 @@
+-- remittance 테이블을 created_at 기준 월별 RANGE COLUMNS 파티션으로 전환
+-- 테이블 전체를 다시 쓰므로 점검 시간에 한 번만 수동으로 실행하고, 실행 후 cashflow.remittance-partition.enabled를 켬
+-- 모든 마이그레이션(V17 receiving_account_id 포함)이 적용된 뒤에 실행
+-- 아래 날짜와 파티션 이름은 실행하는 달에 맞게 변경 (예시는 2024년 6월에 실행하는 경우)
+
+-- 1. 파티션 테이블은 FK를 가질 수 없으므로 account FK 제거
+--    (계좌 존재 여부는 송금 시 애플리케이션에서 확인하고, 계좌 삭제 후에도 이력은 남음)
+ALTER TABLE remittance DROP FOREIGN KEY fk_remittance_account;
+
+-- 2. 파티션 테이블의 모든 unique key에는 파티션 컬럼이 포함되어야 하므로 PK를 (remittance_id, created_at)으로 변경
+--    remittance_id는 remittance_seq로 발급되므로 remittance_id만으로도 유일함
+ALTER TABLE remittance
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (remittance_id, created_at);
+
+-- 3. 이번 달 이전의 이력은 지난달 이름의 파티션 하나에, 이번 달 이후는 p_max에 둠
+--    이번 달과 이후 months-ahead 개월의 파티션은 RemittancePartitionManager가 p_max에서 분리
+ALTER TABLE remittance
+    PARTITION BY RANGE COLUMNS (created_at) (
+        PARTITION p202405 VALUES LESS THAN ('2024-06-01'),
+        PARTITION p_max VALUES LESS THAN (MAXVALUE)
+        );
+
+-- 4. 이번 달 이전의 이력을 모두 cold 테이블에 복사
+--    RemittancePartitionManager는 이름의 월이 cold가 될 때 파티션을 복사하므로, 3에서 한 파티션에 모은 이전 이력은
+--    cold 경계가 지나기 전에 여기서 미리 복사해둠 (cold 조회는 항상 경계 이전으로 제한되므로 중복 조회되지 않음)
+INSERT IGNORE INTO remittance_cold
+(remittance_id, receiving_account_number, receiving_account_id, amount, account_balance_snapshot,
+ account_id, created_at)
+SELECT remittance_id, receiving_account_number, receiving_account_id, amount, account_balance_snapshot,
+       account_id, created_at
+FROM remittance
+WHERE created_at < '2024-06-01';
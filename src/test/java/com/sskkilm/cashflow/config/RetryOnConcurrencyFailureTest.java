@@ -0,0 +1,161 @@
+package com.sskkilm.cashflow.config;
+
+import com.sskkilm.cashflow.service.AccountCommandSerializer;
+import com.sskkilm.cashflow.util.RetryMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringJUnitConfig(RetryOnConcurrencyFailureTest.TestConfiguration.class)
+@TestPropertySource(properties = {
+        "cashflow.retry.max-attempts=3",
+        "cashflow.retry.delay-ms=1",
+        "cashflow.retry.max-delay-ms=1"
+})
+class RetryOnConcurrencyFailureTest {
+
+    @Autowired
+    private ConflictingCommand conflictingCommand;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        conflictingCommand.reset();
+    }
+
+    @Test
+    @DisplayName("동시성 충돌은 재시도 후 성공하고 재시도 횟수를 기록")
+    void retry_success() {
+        //given
+        conflictingCommand.failTimes(2);
+        double retriesBefore = count("cashflow.retry.attempts");
+        double abortsBefore = count("cashflow.retry.aborts");
+
+        //when
+        String result = conflictingCommand.run();
+
+        //then
+        assertEquals("ok", result);
+        assertEquals(3, conflictingCommand.attempts());
+        assertEquals(2, count("cashflow.retry.attempts") - retriesBefore);
+        assertEquals(0, count("cashflow.retry.aborts") - abortsBefore);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 소진하면 예외를 그대로 던지고 포기 횟수를 기록")
+    void retry_fail_exhausted() {
+        //given
+        conflictingCommand.failTimes(Integer.MAX_VALUE);
+        double retriesBefore = count("cashflow.retry.attempts");
+        double abortsBefore = count("cashflow.retry.aborts");
+
+        //when
+        assertThrows(CannotAcquireLockException.class, () -> conflictingCommand.run());
+
+        //then
+        assertEquals(3, conflictingCommand.attempts());
+        assertEquals(2, count("cashflow.retry.attempts") - retriesBefore);
+        assertEquals(1, count("cashflow.retry.aborts") - abortsBefore);
+    }
+
+    @Test
+    @DisplayName("바깥 트랜잭션에 참여한 호출은 재시도하지 않고 예외를 바깥으로 전달")
+    void retry_skip_joinedTransaction() {
+        //given
+        conflictingCommand.failTimes(1);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        //when
+        try {
+            assertThrows(CannotAcquireLockException.class, () -> conflictingCommand.run());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        //then
+        assertEquals(1, conflictingCommand.attempts());
+    }
+
+    @Test
+    @DisplayName("AccountCommandSerializer 파티션 스레드에서는 재시도하지 않고 예외를 호출한 스레드로 전달")
+    void retry_skip_serializerThread() throws InterruptedException {
+        //given
+        conflictingCommand.failTimes(1);
+        AccountCommandSerializer serializer = new AccountCommandSerializer(
+                true, 1, 10, 1000, 1, 1, 1, List.of()
+        );
+
+        //when
+        try {
+            assertThrows(CannotAcquireLockException.class, () -> serializer.execute(1L, conflictingCommand::run));
+        } finally {
+            serializer.shutdown();
+        }
+
+        //then
+        assertEquals(1, conflictingCommand.attempts());
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    @Configuration
+    @Import({RetryConfiguration.class, RetryMetricsListener.class})
+    static class TestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ConflictingCommand conflictingCommand() {
+            return new ConflictingCommand();
+        }
+    }
+
+    static class ConflictingCommand {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile int failures;
+
+        @RetryOnConcurrencyFailure
+        public String run() {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            }
+            return "ok";
+        }
+
+        void failTimes(int failures) {
+            this.failures = failures;
+        }
+
+        void reset() {
+            attempts.set(0);
+        }
+
+        int attempts() {
+            return attempts.get();
+        }
+    }
+}
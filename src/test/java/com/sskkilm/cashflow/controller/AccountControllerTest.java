@@ -7,7 +7,13 @@ import com.sskkilm.cashflow.entity.User;
 import com.sskkilm.cashflow.enums.AccountStatus;
 import com.sskkilm.cashflow.enums.Authority;
 import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.filter.LoginRateLimiter;
+import com.sskkilm.cashflow.service.AccountCommandSerializer;
 import com.sskkilm.cashflow.service.AccountService;
+import com.sskkilm.cashflow.repository.IdempotencyRecordRepository;
+import com.sskkilm.cashflow.service.IdempotencyService;
+import com.sskkilm.cashflow.service.IdempotentCommandExecutor;
+import com.sskkilm.cashflow.service.TokenRevocationService;
 import com.sskkilm.cashflow.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -25,19 +32,29 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AccountController.class)
-@Import(SecurityConfiguration.class)
+@Import({SecurityConfiguration.class, LoginRateLimiter.class, AccountCommandSerializer.class, IdempotencyService.class,
+        IdempotentCommandExecutor.class})
 class AccountControllerTest {
 
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
     @MockBean
     private AccountService accountService;
 
@@ -363,6 +380,70 @@ class AccountControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("특정 계좌 조회 - 계좌 버전이 같으면 304")
+    void getAccount_notModified() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountService.getAccountETag(1L, user))
+                .willReturn("1-3-2-120");
+
+        //when
+        //then
+        mockMvc.perform(get("/accounts/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-3-2-120\"")
+                        .with(user(user))
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3-2-120\""))
+                .andDo(print());
+        verify(accountService, never()).getAccount(any(), any());
+    }
+
+    @Test
+    @DisplayName("계좌 기간 요약 조회")
+    void getAccountSummary() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountService.getAccountSummary(1L, user, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)))
+                .willReturn(
+                        AccountSummaryDto.builder()
+                                .accountId(1L)
+                                .from(LocalDate.of(2024, 5, 1))
+                                .to(LocalDate.of(2024, 5, 31))
+                                .remittanceCount(3L)
+                                .sentAmount(3000L)
+                                .receivedAmount(500L)
+                                .minBalanceSnapshot(100)
+                                .maxBalanceSnapshot(2000)
+                                .build()
+                );
+        //when
+        //then
+        mockMvc.perform(get("/accounts/1/summary")
+                        .param("from", "2024-05-01")
+                        .param("to", "2024-05-31")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remittanceCount").value(3))
+                .andExpect(jsonPath("$.sentAmount").value(3000))
+                .andExpect(jsonPath("$.receivedAmount").value(500))
+                .andExpect(jsonPath("$.minBalanceSnapshot").value(100))
+                .andExpect(jsonPath("$.maxBalanceSnapshot").value(2000))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("입금 성공")
     void deposit_success() throws Exception {
@@ -2,12 +2,34 @@ package com.sskkilm.cashflow.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sskkilm.cashflow.config.SecurityConfiguration;
+import com.sskkilm.cashflow.dto.CreateRemittanceBatchDto;
 import com.sskkilm.cashflow.dto.CreateRemittanceDto;
+import com.sskkilm.cashflow.dto.IncomingRemittanceDto;
+import com.sskkilm.cashflow.dto.IncomingRemittancePageDto;
+import com.sskkilm.cashflow.dto.RemittanceCursorPageDto;
 import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSliceDto;
+import com.sskkilm.cashflow.dto.RemittanceStatusDto;
+import com.sskkilm.cashflow.entity.IdempotencyRecord;
 import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.AccountErrorCode;
 import com.sskkilm.cashflow.enums.Authority;
 import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.enums.RemittanceDirection;
+import com.sskkilm.cashflow.enums.RemittanceExportFormat;
+import com.sskkilm.cashflow.enums.RemittanceRequestStatus;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.filter.LoginRateLimiter;
+import com.sskkilm.cashflow.repository.IdempotencyRecordRepository;
+import com.sskkilm.cashflow.service.AccountCommandSerializer;
+import com.sskkilm.cashflow.service.IdempotencyService;
+import com.sskkilm.cashflow.service.IdempotentCommandExecutor;
+import com.sskkilm.cashflow.service.RemittanceDispatcher;
+import com.sskkilm.cashflow.service.RemittanceExportExecutor;
+import com.sskkilm.cashflow.service.RemittanceExporter;
 import com.sskkilm.cashflow.service.RemittanceService;
+import com.sskkilm.cashflow.service.TokenRevocationService;
 import com.sskkilm.cashflow.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,30 +43,54 @@ import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(RemittanceController.class)
-@Import(SecurityConfiguration.class)
+@Import({SecurityConfiguration.class, LoginRateLimiter.class, AccountCommandSerializer.class, IdempotencyService.class,
+        IdempotentCommandExecutor.class, RemittanceExportExecutor.class})
 class RemittanceControllerTest {
 
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
     @MockBean
     private RemittanceService remittanceService;
 
+    @MockBean
+    private RemittanceDispatcher remittanceDispatcher;
+
+    @MockBean
+    private RemittanceExporter remittanceExporter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -99,6 +145,132 @@ class RemittanceControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("송금 재요청 - 같은 Idempotency-Key는 저장된 응답 반환")
+    void createRemittance_replayIdempotencyKey() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        AtomicReference<IdempotencyRecord> reserved = new AtomicReference<>();
+        given(idempotencyRecordRepository.saveAndFlush(any()))
+                .willAnswer(invocation -> {
+                    reserved.set(invocation.getArgument(0));
+                    return reserved.get();
+                });
+        given(idempotencyRecordRepository.findByIdForUpdate(any()))
+                .willAnswer(invocation -> Optional.ofNullable(reserved.get()));
+        given(remittanceService.createRemittance(any(), any()))
+                .willReturn(
+                        new CreateRemittanceDto.Response(
+                                "1122334455",
+                                1000,
+                                0,
+                                LocalDateTime.of(
+                                        2024, 5, 5,
+                                        6, 30
+                                )
+                        )
+                );
+        String content = objectMapper.writeValueAsString(
+                new CreateRemittanceDto.Request(
+                        1L,
+                        "1122334455",
+                        1000
+                )
+        );
+
+        //when
+        //then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/remittances")
+                            .with(user(user))
+                            .header("Idempotency-Key", "remittance-replay")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.receivingAccountNumber")
+                            .value("1122334455"))
+                    .andExpect(jsonPath("$.createdAt")
+                            .value("2024-05-05T06:30:00"))
+                    .andDo(print());
+        }
+        verify(remittanceService, times(1)).createRemittance(any(), any());
+    }
+
+    @Test
+    @DisplayName("비동기 송금 접수")
+    void createRemittanceAsync() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceDispatcher.submit(any()))
+                .willReturn(
+                        RemittanceStatusDto.builder()
+                                .remittanceRequestId(10L)
+                                .status(RemittanceRequestStatus.PENDING)
+                                .build()
+                );
+
+        //when
+        //then
+        mockMvc.perform(post("/remittances")
+                        .with(user(user))
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateRemittanceDto.Request(
+                                        1L,
+                                        "1122334455",
+                                        1000
+                                )
+                        ))
+                )
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/remittances/status/10"))
+                .andExpect(jsonPath("$.remittanceRequestId").value(10L))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("비동기 송금 상태 조회")
+    void getRemittanceStatus() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceService.getRemittanceStatus(10L, user))
+                .willReturn(
+                        RemittanceStatusDto.builder()
+                                .remittanceRequestId(10L)
+                                .status(RemittanceRequestStatus.COMPLETED)
+                                .remittanceId(100L)
+                                .build()
+                );
+
+        //when
+        //then
+        mockMvc.perform(get("/remittances/status/10")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.remittanceId").value(100L))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("송금 실패 - 계좌 아이디 1보다 작음")
     void createRemittance_fail_accountIdLessThan1() throws Exception {
@@ -186,6 +358,132 @@ class RemittanceControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("일괄 송금 성공")
+    void createRemittances_success() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceService.createRemittances(any(), any()))
+                .willReturn(
+                        CreateRemittanceBatchDto.Response.of(List.of(
+                                CreateRemittanceBatchDto.Result.success(0,
+                                        new CreateRemittanceDto.Response(
+                                                "1122334455",
+                                                1000,
+                                                0,
+                                                LocalDateTime.of(
+                                                        2024, 5, 5,
+                                                        6, 30
+                                                )
+                                        )),
+                                CreateRemittanceBatchDto.Result.failure(1,
+                                        AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT)
+                        ))
+                );
+
+        //when
+        //then
+        mockMvc.perform(post("/remittances/batch")
+                        .with(user(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateRemittanceBatchDto.Request(List.of(
+                                        new CreateRemittanceDto.Request(1L, "1122334455", 1000),
+                                        new CreateRemittanceDto.Request(1L, "5544332211", 1000)
+                                ))
+                        ))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successCount").value(1))
+                .andExpect(jsonPath("$.failureCount").value(1))
+                .andExpect(jsonPath("$.results[0].remittance.receivingAccountNumber")
+                        .value("1122334455"))
+                .andExpect(jsonPath("$.results[1].errorCode")
+                        .value("ACCOUNT_BALANCE_INSUFFICIENT"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("일괄 송금 재요청 - 같은 Idempotency-Key는 저장된 응답 반환")
+    void createRemittances_replayIdempotencyKey() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        AtomicReference<IdempotencyRecord> reserved = new AtomicReference<>();
+        given(idempotencyRecordRepository.saveAndFlush(any()))
+                .willAnswer(invocation -> {
+                    reserved.set(invocation.getArgument(0));
+                    return reserved.get();
+                });
+        given(idempotencyRecordRepository.findByIdForUpdate(any()))
+                .willAnswer(invocation -> Optional.ofNullable(reserved.get()));
+        given(remittanceService.createRemittances(any(), any()))
+                .willReturn(
+                        CreateRemittanceBatchDto.Response.of(List.of(
+                                CreateRemittanceBatchDto.Result.failure(0,
+                                        AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT)
+                        ))
+                );
+        String content = objectMapper.writeValueAsString(
+                new CreateRemittanceBatchDto.Request(List.of(
+                        new CreateRemittanceDto.Request(1L, "1122334455", 1000)
+                ))
+        );
+
+        //when
+        //then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/remittances/batch")
+                            .with(user(user))
+                            .header("Idempotency-Key", "remittance-batch-replay")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.failureCount").value(1))
+                    .andExpect(jsonPath("$.results[0].errorCode")
+                            .value("ACCOUNT_BALANCE_INSUFFICIENT"))
+                    .andDo(print());
+        }
+        verify(remittanceService, times(1)).createRemittances(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 송금 실패 - 잘못된 항목 포함")
+    void createRemittances_fail_invalidItem() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+
+        //when
+        //then
+        mockMvc.perform(post("/remittances/batch")
+                        .with(user(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateRemittanceBatchDto.Request(List.of(
+                                        new CreateRemittanceDto.Request(0L, "1122334455", 1000)
+                                ))
+                        ))
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("모든 송금 내역 조회")
     void getRemittanceList() throws Exception {
@@ -232,6 +530,224 @@ class RemittanceControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("커서 기반 송금 내역 조회")
+    void getRemittanceListByCursor() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceService.getRemittanceList(eq("cursor"), anyInt(), anyLong(), any()))
+                .willReturn(RemittanceCursorPageDto.builder()
+                        .content(List.of(
+                                RemittanceDto.builder()
+                                        .receivingAccountNumber("1122334455")
+                                        .remittanceAmount(1000)
+                                        .accountBalanceSnapshot(0)
+                                        .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                        .build()
+                        ))
+                        .hasNext(true)
+                        .nextCursor("next")
+                        .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/remittances/1")
+                        .param("after", "cursor")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].receivingAccountNumber")
+                        .value("1122334455"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("송금 내역 조회 - If-None-Match가 같으면 304, 새 송금 후에는 새 ETag로 200")
+    void getRemittanceList_eTag() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceService.getRemittanceListETag(eq(1L), any()))
+                .willReturn("remittances-5", "remittances-5", "remittances-6");
+        given(remittanceService.getRemittanceList(any(), anyLong(), any()))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 30), false));
+
+        //when
+        //then
+        String eTag = mockMvc.perform(get("/remittances/1")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"remittances-5\""))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/remittances/1")
+                        .with(user(user))
+                        .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/remittances/1")
+                        .with(user(user))
+                        .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"remittances-6\""))
+                .andDo(print());
+        verify(remittanceService, times(2)).getRemittanceList(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("커서 기반 송금 내역 조회 - If-None-Match가 같으면 304, 새 송금 후에는 새 ETag로 200")
+    void getRemittanceListByCursor_eTag() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceService.getRemittanceListETag(eq(1L), any()))
+                .willReturn("remittances-5", "remittances-5", "remittances-6");
+        given(remittanceService.getRemittanceList(eq(""), anyInt(), anyLong(), any()))
+                .willReturn(RemittanceCursorPageDto.builder()
+                        .content(List.of())
+                        .hasNext(false)
+                        .build());
+
+        //when
+        //then
+        String eTag = mockMvc.perform(get("/remittances/1")
+                        .param("after", "")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"remittances-5\""))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/remittances/1")
+                        .param("after", "")
+                        .with(user(user))
+                        .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/remittances/1")
+                        .param("after", "")
+                        .with(user(user))
+                        .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"remittances-6\""))
+                .andDo(print());
+        verify(remittanceService, times(2)).getRemittanceList(eq(""), anyInt(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("받은 송금 내역 조회")
+    void getIncomingRemittanceList() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceService.getIncomingRemittanceList(any(), anyInt(), anyLong(), any()))
+                .willReturn(IncomingRemittancePageDto.builder()
+                        .content(List.of(
+                                IncomingRemittanceDto.builder()
+                                        .sendingAccountNumber("5544332211")
+                                        .remittanceAmount(1000)
+                                        .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                        .build()
+                        ))
+                        .hasNext(false)
+                        .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/remittances/1/incoming")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].sendingAccountNumber").value("5544332211"))
+                .andExpect(jsonPath("$.content[0].remittanceAmount").value(1000))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("송금 내역 검색")
+    void searchRemittances() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceService.searchRemittances(
+                eq(new RemittanceSearchDto.Request(RemittanceDirection.SENT, 1000, null, "1122", null, null)),
+                anyLong(), any()
+        )).willReturn(RemittanceSearchDto.Response.builder()
+                .content(List.of(
+                        RemittanceSearchDto.Entry.builder()
+                                .direction(RemittanceDirection.SENT)
+                                .counterpartyAccountNumber("1122334455")
+                                .remittanceAmount(3000)
+                                .accountBalanceSnapshot(0)
+                                .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                .build()
+                ))
+                .hasNext(false)
+                .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/remittances/1/search")
+                        .param("direction", "SENT")
+                        .param("minAmount", "1000")
+                        .param("counterparty", "1122")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].direction").value("SENT"))
+                .andExpect(jsonPath("$.content[0].counterpartyAccountNumber").value("1122334455"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("송금 내역 검색 실패 - 음수 금액")
+    void searchRemittances_fail_NegativeAmount() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+
+        //when
+        //then
+        mockMvc.perform(get("/remittances/1/search")
+                        .param("minAmount", "-1")
+                        .with(user(user))
+                )
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("기간 내 송금 내역 조회")
     void getRemittanceListBetween() throws Exception {
@@ -279,4 +795,98 @@ class RemittanceControllerTest {
                         .value("2024-05-05T00:00:00"))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("기간 내 송금 내역 조회 - 일별 집계 전체 건수")
+    void getRemittanceSlice() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceService.getRemittanceSlice(any(), anyLong(), any(), any(), any()))
+                .willReturn(RemittanceSliceDto.builder()
+                        .content(List.of(
+                                RemittanceDto.builder()
+                                        .receivingAccountNumber("1122334455")
+                                        .remittanceAmount(1000)
+                                        .accountBalanceSnapshot(0)
+                                        .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                        .build()
+                        ))
+                        .number(0)
+                        .size(30)
+                        .hasNext(false)
+                        .totalElements(1)
+                        .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/remittances/1")
+                        .param("startDate", "2024-05-01")
+                        .param("endDate", "2024-05-31")
+                        .param("total", "rollup")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].receivingAccountNumber")
+                        .value("1122334455"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andDo(print());
+        verify(remittanceService, times(0))
+                .getRemittanceList(any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("송금 이력 CSV 내보내기")
+    void exportRemittances() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+
+        //when
+        MvcResult mvcResult = mockMvc.perform(get("/remittances/1/export")
+                        .param("format", "CSV")
+                        .with(user(user))
+                )
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=remittances-1.csv"))
+                .andDo(print());
+        verify(remittanceExporter).checkAccountOwner(1L, user);
+        verify(remittanceExporter).export(eq(1L), eq(RemittanceExportFormat.CSV), any());
+    }
+
+    @Test
+    @DisplayName("송금 이력 내보내기 실패 - 계좌 소유주 다름")
+    void exportRemittances_fail_AccountUserUnMatch() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        willThrow(new CustomException(AccountErrorCode.ACCOUNT_USER_UN_MATCH))
+                .given(remittanceExporter).checkAccountOwner(1L, user);
+
+        //when
+        //then
+        mockMvc.perform(get("/remittances/1/export")
+                        .with(user(user))
+                )
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+}
@@ -0,0 +1,98 @@
+package com.sskkilm.cashflow.controller;
+
+import com.sskkilm.cashflow.config.SecurityConfiguration;
+import com.sskkilm.cashflow.dto.StatementDto;
+import com.sskkilm.cashflow.dto.StatementEntryDto;
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.Authority;
+import com.sskkilm.cashflow.filter.LoginRateLimiter;
+import com.sskkilm.cashflow.repository.IdempotencyRecordRepository;
+import com.sskkilm.cashflow.service.AccountCommandSerializer;
+import com.sskkilm.cashflow.service.IdempotencyService;
+import com.sskkilm.cashflow.service.IdempotentCommandExecutor;
+import com.sskkilm.cashflow.service.StatementService;
+import com.sskkilm.cashflow.service.TokenRevocationService;
+import com.sskkilm.cashflow.util.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StatementController.class)
+@Import({SecurityConfiguration.class, LoginRateLimiter.class, AccountCommandSerializer.class, IdempotencyService.class,
+        IdempotentCommandExecutor.class})
+class StatementControllerTest {
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @MockBean
+    private StatementService statementService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("통합 거래내역 조회")
+    void getStatement() throws Exception {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(statementService.getStatement(
+                any(), anyInt(), any(),
+                eq(LocalDateTime.of(2024, 5, 1, 0, 0)),
+                eq(LocalDateTime.of(2024, 5, 31, 0, 0).with(LocalTime.MAX))
+        )).willReturn(StatementDto.builder()
+                .content(List.of(
+                        StatementEntryDto.builder()
+                                .accountNumber("5544332211")
+                                .receivingAccountNumber("1122334455")
+                                .remittanceAmount(1000)
+                                .accountBalanceSnapshot(0)
+                                .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                .build()
+                ))
+                .hasNext(false)
+                .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/statements")
+                        .param("from", "2024-05-01")
+                        .param("to", "2024-05-31")
+                        .with(user(user))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].accountNumber").value("5544332211"))
+                .andExpect(jsonPath("$.content[0].receivingAccountNumber").value("1122334455"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andDo(print());
+    }
+}
@@ -9,8 +9,12 @@ import com.sskkilm.cashflow.enums.Authority;
 import com.sskkilm.cashflow.enums.GlobalErrorCode;
 import com.sskkilm.cashflow.enums.UserErrorCode;
 import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.filter.LoginRateLimiter;
+import com.sskkilm.cashflow.service.TokenRevocationService;
 import com.sskkilm.cashflow.service.UserService;
 import com.sskkilm.cashflow.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,19 +22,25 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Date;
+
 import static com.sskkilm.cashflow.enums.UserErrorCode.LOGIN_FAILED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(UserController.class)
-@Import({SecurityConfiguration.class, AppConfiguration.class})
+@Import({SecurityConfiguration.class, LoginRateLimiter.class, AppConfiguration.class})
 class UserControllerTest {
 
     @MockBean
@@ -39,6 +49,9 @@ class UserControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -46,7 +59,7 @@ class UserControllerTest {
     private ObjectMapper objectMapper;
 
     @Autowired
-    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private PasswordEncoder passwordEncoder;
 
     @Test
     @DisplayName("회원가입 성공")
@@ -117,11 +130,11 @@ class UserControllerTest {
         given(userService.loadUserByUsername(any()))
                 .willReturn(User.builder()
                         .loginId("root")
-                        .password(bCryptPasswordEncoder.encode("root"))
+                        .password(passwordEncoder.encode("root"))
                         .role(Authority.ROLE_USER)
                         .build()
                 );
-        given(jwtUtil.createJwt(any(), any(), anyLong()))
+        given(jwtUtil.createJwt(any(), any(), any(), anyLong()))
                 .willReturn("TEST_TOKEN");
 
         //when
@@ -152,4 +165,56 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.message").value(LOGIN_FAILED.getMessage()))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그인 실패 - 시도 횟수 초과시 사용자 조회 없이 429")
+    void login_fail_TooManyAttempts() throws Exception {
+        //given
+        given(userService.loadUserByUsername(any()))
+                .willThrow(new CustomException(UserErrorCode.USER_NOT_FOUND));
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/users/login")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .param("loginId", "attacker")
+                    .param("password", "wrong"));
+        }
+
+        //when
+        //then
+        mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("loginId", "attacker")
+                        .param("password", "wrong"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorCode").value("TOO_MANY_LOGIN_ATTEMPTS"))
+                .andDo(print());
+        verify(userService, times(5)).loadUserByUsername("attacker");
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - 요청에 사용된 토큰 폐기")
+    void logout_success() throws Exception {
+        //given
+        Claims claims = Jwts.claims()
+                .id("jti")
+                .expiration(new Date(System.currentTimeMillis() + 60 * 1000L))
+                .build();
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                user, "", user.getAuthorities()
+        );
+        authenticationToken.setDetails(claims);
+
+        //when
+        //then
+        mockMvc.perform(post("/users/logout")
+                        .with(authentication(authenticationToken)))
+                .andExpect(status().isOk())
+                .andDo(print());
+        verify(tokenRevocationService).revoke(claims);
+    }
+}
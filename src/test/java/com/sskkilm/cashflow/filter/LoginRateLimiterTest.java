@@ -0,0 +1,79 @@
+package com.sskkilm.cashflow.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginRateLimiterTest {
+
+    @Test
+    @DisplayName("loginId 버킷을 다 쓰면 같은 loginId는 거절, 다른 loginId는 허용")
+    void tryAcquire_loginId() {
+        //given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(2, 60_000, 100, 60_000, 100);
+        loginRateLimiter.tryAcquire("root", "127.0.0.1");
+        loginRateLimiter.tryAcquire("root", "127.0.0.1");
+
+        //when
+        //then
+        assertFalse(loginRateLimiter.tryAcquire("root", "127.0.0.1"));
+        assertTrue(loginRateLimiter.tryAcquire("other", "127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("IP 버킷을 다 쓰면 loginId와 관계없이 거절")
+    void tryAcquire_ip() {
+        //given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(100, 60_000, 2, 60_000, 100);
+        loginRateLimiter.tryAcquire("user1", "10.0.0.1");
+        loginRateLimiter.tryAcquire("user2", "10.0.0.1");
+
+        //when
+        //then
+        assertFalse(loginRateLimiter.tryAcquire("user3", "10.0.0.1"));
+        assertTrue(loginRateLimiter.tryAcquire("user3", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("IP 키 수가 최대치이면 새 IP는 거절")
+    void tryAcquire_maxKeys_ip() {
+        //given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(5, 60_000, 5, 60_000, 1);
+        loginRateLimiter.tryAcquire("root", "127.0.0.1");
+
+        //when
+        //then
+        assertFalse(loginRateLimiter.tryAcquire("root", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("loginId 키 수가 최대치이면 새 loginId는 IP 제한만 적용")
+    void tryAcquire_maxKeys_loginId() {
+        //given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(1, 60_000, 3, 60_000, 1);
+        loginRateLimiter.tryAcquire("root", "127.0.0.1");
+
+        //when
+        //then
+        assertTrue(loginRateLimiter.tryAcquire("other", "127.0.0.1"));
+        assertTrue(loginRateLimiter.tryAcquire("other", "127.0.0.1"));
+        assertFalse(loginRateLimiter.tryAcquire("other", "127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷을 주기적으로 정리하면 새 키를 다시 받음")
+    void evictFullBuckets() throws InterruptedException {
+        //given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(5, 1, 5, 1, 1);
+        loginRateLimiter.tryAcquire("root", "127.0.0.1");
+        Thread.sleep(10);
+
+        //when
+        loginRateLimiter.evictFullBuckets();
+
+        //then
+        assertTrue(loginRateLimiter.tryAcquire("other", "10.0.0.1"));
+    }
+}
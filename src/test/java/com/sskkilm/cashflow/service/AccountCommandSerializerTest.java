@@ -0,0 +1,192 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.enums.AccountErrorCode;
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountCommandSerializerTest {
+
+    @Test
+    @DisplayName("비활성화 상태에서는 호출한 스레드에서 바로 실행")
+    void execute_disabled() throws InterruptedException {
+        //given
+        AccountCommandSerializer serializer = serializer(false, 4, 10, 1000);
+
+        //when
+        Thread thread = serializer.execute(1L, Thread::currentThread);
+
+        //then
+        assertEquals(Thread.currentThread(), thread);
+        serializer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 명령은 같은 파티션 스레드에서 실행")
+    void execute_samePartition() throws InterruptedException {
+        //given
+        AccountCommandSerializer serializer = serializer(true, 4, 10, 1000);
+
+        //when
+        Thread first = serializer.execute(1L, Thread::currentThread);
+        Thread second = serializer.execute(1L, Thread::currentThread);
+        Thread otherAccount = serializer.execute(2L, Thread::currentThread);
+
+        //then
+        assertEquals(first, second);
+        assertNotEquals(first, otherAccount);
+        assertNotEquals(Thread.currentThread(), first);
+        serializer.shutdown();
+    }
+
+    @Test
+    @DisplayName("명령에서 발생한 예외는 그대로 전달")
+    void execute_exception() throws InterruptedException {
+        //given
+        AccountCommandSerializer serializer = serializer(true, 4, 10, 1000);
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> serializer.execute(1L, () -> {
+                    throw new CustomException(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT);
+                }));
+
+        //then
+        assertEquals(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT, customException.getErrorCode());
+        serializer.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행 중인 명령이 제한 시간을 넘기면 실패가 아닌 결과 미확인")
+    void execute_timeout_running() throws InterruptedException {
+        //given
+        AccountCommandSerializer serializer = serializer(true, 1, 10, 50);
+        CountDownLatch release = new CountDownLatch(1);
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> serializer.execute(1L, () -> await(release)));
+
+        //then
+        assertEquals(GlobalErrorCode.OUTCOME_UNKNOWN, customException.getErrorCode());
+        release.countDown();
+        serializer.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열에서 시작하지 못한 명령은 취소하고 SERVER_BUSY")
+    void execute_timeout_queued() throws InterruptedException {
+        //given
+        AccountCommandSerializer serializer = serializer(true, 1, 10, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean executed = new AtomicBoolean();
+        Thread blocker = new Thread(() -> {
+            try {
+                serializer.execute(1L, () -> {
+                    started.countDown();
+                    return await(release);
+                });
+            } catch (CustomException ignored) {
+            }
+        });
+        blocker.start();
+        started.await();
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> serializer.execute(1L, () -> executed.getAndSet(true)));
+
+        //then
+        assertEquals(GlobalErrorCode.SERVER_BUSY, customException.getErrorCode());
+        release.countDown();
+        blocker.join();
+        serializer.shutdown();
+        assertFalse(executed.get());
+    }
+
+    @Test
+    @DisplayName("명령은 파티션 스레드에서 실행되고, 호출한 스레드는 파티션 스레드가 아님")
+    void isSerializerThread() throws InterruptedException {
+        //given
+        AccountCommandSerializer serializer = serializer(true, 1, 10, 1000);
+
+        //when
+        boolean inPartition = serializer.execute(1L, AccountCommandSerializer::isSerializerThread);
+
+        //then
+        assertTrue(inPartition);
+        assertFalse(AccountCommandSerializer.isSerializerThread());
+        serializer.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시성 충돌은 호출한 스레드에서 기다린 뒤 같은 파티션에 다시 제출")
+    void execute_retryOnCallerThread() throws InterruptedException {
+        //given
+        AccountCommandSerializer serializer = serializer(true, 1, 10, 1000);
+        AtomicInteger attempts = new AtomicInteger();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        //when
+        String result = serializer.execute(1L, () -> {
+            threads.add(Thread.currentThread());
+            if (attempts.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            }
+            return "ok";
+        });
+
+        //then
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertTrue(threads.stream().noneMatch(Thread.currentThread()::equals));
+        serializer.shutdown();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 소진하면 동시성 충돌 예외를 그대로 전달")
+    void execute_retryExhausted() throws InterruptedException {
+        //given
+        AccountCommandSerializer serializer = serializer(true, 1, 10, 1000);
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        assertThrows(CannotAcquireLockException.class, () -> serializer.execute(1L, () -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("Lock wait timeout exceeded");
+        }));
+
+        //then
+        assertEquals(3, attempts.get());
+        serializer.shutdown();
+    }
+
+    private static AccountCommandSerializer serializer(
+            boolean enabled, int partitions, int queueCapacity, long timeoutMillis
+    ) {
+        return new AccountCommandSerializer(
+                enabled, partitions, queueCapacity, timeoutMillis, 3, 1, 1, List.of()
+        );
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.dto.ReceivingAccountDto;
+import com.sskkilm.cashflow.enums.AccountStatus;
+import com.sskkilm.cashflow.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberResolverTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private AccountNumberResolver accountNumberResolver;
+
+    @BeforeEach
+    void setUp() {
+        accountNumberResolver = new AccountNumberResolver(accountRepository, 100);
+    }
+
+    @Test
+    @DisplayName("두번째 조회부터는 캐시된 id로 PK 조회")
+    void resolve_cached() {
+        //given
+        given(accountRepository.findReceivingAccountByAccountNumber("1122334455"))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(accountRepository.findReceivingAccountById(2L))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.INACTIVE)));
+
+        //when
+        accountNumberResolver.resolve("1122334455");
+        Optional<ReceivingAccountDto> receivingAccount = accountNumberResolver.resolve("1122334455");
+
+        //then
+        assertEquals(AccountStatus.INACTIVE, receivingAccount.orElseThrow().status());
+        verify(accountRepository, times(1)).findReceivingAccountByAccountNumber("1122334455");
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 계좌번호로 다시 조회")
+    void resolve_evicted() {
+        //given
+        given(accountRepository.findReceivingAccountByAccountNumber("1122334455"))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)))
+                .willReturn(Optional.empty());
+
+        //when
+        accountNumberResolver.resolve("1122334455");
+        accountNumberResolver.evict("1122334455");
+        Optional<ReceivingAccountDto> receivingAccount = accountNumberResolver.resolve("1122334455");
+
+        //then
+        assertTrue(receivingAccount.isEmpty());
+        verify(accountRepository, times(2)).findReceivingAccountByAccountNumber("1122334455");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 비우면 커밋된 뒤에 캐시에서 제거")
+    void evict_afterCommit() {
+        //given
+        given(accountRepository.findReceivingAccountByAccountNumber("1122334455"))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(accountRepository.findReceivingAccountById(2L))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        accountNumberResolver.resolve("1122334455");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            accountNumberResolver.evict("1122334455");
+            accountNumberResolver.resolve("1122334455");
+            verify(accountRepository, times(1)).findReceivingAccountByAccountNumber("1122334455");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        accountNumberResolver.resolve("1122334455");
+
+        //then
+        verify(accountRepository, times(2)).findReceivingAccountByAccountNumber("1122334455");
+    }
+}
@@ -8,6 +8,7 @@ import com.sskkilm.cashflow.enums.AccountStatus;
 import com.sskkilm.cashflow.enums.Authority;
 import com.sskkilm.cashflow.exception.CustomException;
 import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.repository.DailyRemittanceRollupRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +28,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AccountServiceTest {
@@ -34,6 +37,15 @@ class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private AccountNumberResolver accountNumberResolver;
+
+    @Mock
+    private DailyRemittanceRollupRepository dailyRemittanceRollupRepository;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -140,6 +152,7 @@ class AccountServiceTest {
                 .willReturn(Optional.of(
                         Account.builder()
                                 .id(1L)
+                                .accountNumber("1122334455")
                                 .status(AccountStatus.ACTIVE)
                                 .user(user)
                                 .build()));
@@ -150,6 +163,7 @@ class AccountServiceTest {
         assertEquals(1L, response.id());
         assertEquals(AccountStatus.INACTIVE, response.status());
         assertEquals(1L, response.userId());
+        verify(accountNumberResolver).evict("1122334455");
     }
 
     @Test
@@ -250,6 +264,7 @@ class AccountServiceTest {
                 .willReturn(Optional.of(
                         Account.builder()
                                 .id(1L)
+                                .accountNumber("1122334455")
                                 .user(user)
                                 .build())
                 );
@@ -260,6 +275,7 @@ class AccountServiceTest {
         //then
         assertEquals(1L, response.id());
         assertEquals(1L, response.userId());
+        verify(accountNumberResolver).evict("1122334455");
     }
 
     @Test
@@ -327,33 +343,18 @@ class AccountServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        List<Account> accountList = List.of(
-                Account.builder()
-                        .id(1L)
-                        .user(user)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 4),
-                                LocalTime.of(6, 30)
-                        ))
+        List<AccountDto> accountList = List.of(
+                AccountDto.builder()
+                        .accountId(1L)
                         .build(),
-                Account.builder()
-                        .id(2L)
-                        .user(user)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 5),
-                                LocalTime.of(6, 30)
-                        ))
+                AccountDto.builder()
+                        .accountId(2L)
                         .build(),
-                Account.builder()
-                        .id(3L)
-                        .user(user)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 6),
-                                LocalTime.of(6, 30)
-                        ))
+                AccountDto.builder()
+                        .accountId(3L)
                         .build()
         );
-        given(accountRepository.findAllByUserOrderByCreatedAt(user))
+        given(accountRepository.findAccountDtosByUser(user))
                 .willReturn(accountList);
 
         //when
@@ -375,36 +376,21 @@ class AccountServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        List<Account> accountList = List.of(
-                Account.builder()
-                        .id(1L)
-                        .user(user)
+        List<AccountDto> accountList = List.of(
+                AccountDto.builder()
+                        .accountId(1L)
                         .status(AccountStatus.ACTIVE)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 4),
-                                LocalTime.of(6, 30)
-                        ))
                         .build(),
-                Account.builder()
-                        .id(2L)
-                        .user(user)
+                AccountDto.builder()
+                        .accountId(2L)
                         .status(AccountStatus.ACTIVE)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 5),
-                                LocalTime.of(6, 30)
-                        ))
                         .build(),
-                Account.builder()
-                        .id(3L)
-                        .user(user)
+                AccountDto.builder()
+                        .accountId(3L)
                         .status(AccountStatus.ACTIVE)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 6),
-                                LocalTime.of(6, 30)
-                        ))
                         .build()
         );
-        given(accountRepository.findAllByUserAndStatusOrderByCreatedAt(user, AccountStatus.ACTIVE))
+        given(accountRepository.findAccountDtosByUserAndStatus(user, AccountStatus.ACTIVE))
                 .willReturn(accountList);
 
         //when
@@ -429,36 +415,21 @@ class AccountServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        List<Account> accountList = List.of(
-                Account.builder()
-                        .id(1L)
-                        .user(user)
+        List<AccountDto> accountList = List.of(
+                AccountDto.builder()
+                        .accountId(1L)
                         .status(AccountStatus.INACTIVE)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 4),
-                                LocalTime.of(6, 30)
-                        ))
                         .build(),
-                Account.builder()
-                        .id(2L)
-                        .user(user)
+                AccountDto.builder()
+                        .accountId(2L)
                         .status(AccountStatus.INACTIVE)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 5),
-                                LocalTime.of(6, 30)
-                        ))
                         .build(),
-                Account.builder()
-                        .id(3L)
-                        .user(user)
+                AccountDto.builder()
+                        .accountId(3L)
                         .status(AccountStatus.INACTIVE)
-                        .createdAt(LocalDateTime.of(
-                                LocalDate.of(2024, 5, 6),
-                                LocalTime.of(6, 30)
-                        ))
                         .build()
         );
-        given(accountRepository.findAllByUserAndStatusOrderByCreatedAt(user, AccountStatus.INACTIVE))
+        given(accountRepository.findAccountDtosByUserAndStatus(user, AccountStatus.INACTIVE))
                 .willReturn(accountList);
 
         //when
@@ -491,18 +462,20 @@ class AccountServiceTest {
                 LocalDate.of(2024, 5, 5),
                 LocalTime.of(7, 30)
         );
+        Account account = Account.builder()
+                .id(1L)
+                .user(user)
+                .accountNumber("1122334455")
+                .balance(1000)
+                .status(AccountStatus.ACTIVE)
+                .createdAt(createdAt)
+                .modifiedAt(modifiedAt)
+                .build();
         given(accountRepository.findById(anyLong()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(1L)
-                                .user(user)
-                                .accountNumber("1122334455")
-                                .balance(1000)
-                                .status(AccountStatus.ACTIVE)
-                                .createdAt(createdAt)
-                                .modifiedAt(modifiedAt)
-                                .build()
-                ));
+                .willReturn(Optional.of(account));
+        // 스냅샷 이후 분개까지 합친 잔액
+        given(ledgerService.balanceOf(account))
+                .willReturn(3000);
 
         //when
         GetAccountDto getAccountDto = accountService.getAccount(1L, user);
@@ -510,12 +483,51 @@ class AccountServiceTest {
         //then
         assertEquals(1L, getAccountDto.accountId());
         assertEquals("1122334455", getAccountDto.accountNumber());
-        assertEquals(1000, getAccountDto.balance());
+        assertEquals(3000, getAccountDto.balance());
         assertEquals(AccountStatus.ACTIVE, getAccountDto.status());
         assertEquals(createdAt, getAccountDto.createdAt());
         assertEquals(modifiedAt, getAccountDto.modifiedAt());
     }
 
+    @Test
+    @DisplayName("계좌 목록 ETag - 계좌별 버전을 계좌 id 순으로 연결")
+    void getAccountListETag() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .build();
+        given(accountRepository.findAccountVersionsByUser(user))
+                .willReturn(List.of(
+                        new AccountVersionDto(1L, 1L, 3L, 2L, 120L),
+                        new AccountVersionDto(2L, 1L, 0L, 0L, 0L)
+                ));
+
+        //when
+        String eTag = accountService.getAccountListETag(user);
+
+        //then
+        assertEquals("accounts-1-3-2-120.2-0-0-0", eTag);
+    }
+
+    @Test
+    @DisplayName("특정 계좌 ETag 실패 - 계좌 소유주 다름")
+    void getAccountETag_fail_AccountUserUnMatch() {
+        //given
+        User user = User.builder()
+                .id(2L)
+                .build();
+        given(accountRepository.findAccountVersionById(1L))
+                .willReturn(Optional.of(new AccountVersionDto(1L, 1L, 3L, 2L, 120L)));
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> accountService.getAccountETag(1L, user)
+        );
+
+        //then
+        assertEquals(AccountErrorCode.ACCOUNT_USER_UN_MATCH, customException.getErrorCode());
+    }
+
     @Test
     @DisplayName("특정 계좌 조회 실패 - 존재하지 않는 계좌")
     void getAccount_fail_AccountNotFound() {
@@ -572,8 +584,8 @@ class AccountServiceTest {
     }
 
     @Test
-    @DisplayName("입금 성공")
-    void deposit_success() {
+    @DisplayName("계좌 기간 요약 조회 성공")
+    void getAccountSummary_success() {
         //given
         User user = User.builder()
                 .id(1L)
@@ -581,15 +593,49 @@ class AccountServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        given(accountRepository.findById(anyLong()))
+        given(accountRepository.findById(1L))
                 .willReturn(Optional.of(
                         Account.builder()
                                 .id(1L)
                                 .user(user)
-                                .balance(1000)
-                                .status(AccountStatus.ACTIVE)
                                 .build()
                 ));
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 5, 31);
+        given(dailyRemittanceRollupRepository.sumRollup(1L, from, to))
+                .willReturn(new RemittanceRollupDto(3L, 3000L, 500L, 100, 2000));
+
+        //when
+        AccountSummaryDto summary = accountService.getAccountSummary(1L, user, from, to);
+
+        //then
+        assertEquals(3L, summary.remittanceCount());
+        assertEquals(3000L, summary.sentAmount());
+        assertEquals(500L, summary.receivedAmount());
+        assertEquals(100, summary.minBalanceSnapshot());
+        assertEquals(2000, summary.maxBalanceSnapshot());
+    }
+
+    @Test
+    @DisplayName("입금 성공")
+    void deposit_success() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        Account account = Account.builder()
+                .id(1L)
+                .user(user)
+                .balance(1000)
+                .status(AccountStatus.ACTIVE)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(account));
+        given(ledgerService.balanceOf(account))
+                .willReturn(1000);
 
         //when
         DepositDto.Response response = accountService.deposit(
@@ -600,6 +646,7 @@ class AccountServiceTest {
         assertEquals(1000, response.balanceBeforeDeposit());
         assertEquals(1000, response.depositAmount());
         assertEquals(2000, response.balanceAfterDeposit());
+        verify(ledgerService).deposit(1L, 1000);
     }
 
     @Test
@@ -690,7 +737,7 @@ class AccountServiceTest {
     }
 
     @Test
-    @DisplayName("출금 성공")
+    @DisplayName("출금 성공 - 조건부 차감 후 잔액으로 응답하고 계좌는 조회하지 않음")
     void withdraw_success() {
         //given
         User user = User.builder()
@@ -699,15 +746,8 @@ class AccountServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        given(accountRepository.findById(anyLong()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(1L)
-                                .user(user)
-                                .status(AccountStatus.ACTIVE)
-                                .balance(2000)
-                                .build()
-                ));
+        given(ledgerService.withdraw(1L, 1L, 1000))
+                .willReturn(Optional.of(1000));
 
         //when
         WithdrawDto.Response response = accountService.withdraw(
@@ -719,6 +759,8 @@ class AccountServiceTest {
         assertEquals(2000, response.balanceBeforeWithdraw());
         assertEquals(1000, response.withdrawAmount());
         assertEquals(1000, response.balanceAfterWithdraw());
+        verify(accountRepository, never()).findById(anyLong());
+        verify(accountRepository, never()).findByIdForUpdate(anyLong());
     }
 
     @Test
@@ -731,6 +773,8 @@ class AccountServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
+        given(ledgerService.withdraw(1L, 1L, 1000))
+                .willReturn(Optional.empty());
         given(accountRepository.findById(anyLong()))
                 .willReturn(Optional.empty());
 
@@ -760,6 +804,8 @@ class AccountServiceTest {
                 .password("root2")
                 .role(Authority.ROLE_USER)
                 .build();
+        given(ledgerService.withdraw(1L, 2L, 1000))
+                .willReturn(Optional.empty());
         given(accountRepository.findById(anyLong()))
                 .willReturn(Optional.of(
                         Account.builder()
@@ -788,6 +834,8 @@ class AccountServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
+        given(ledgerService.withdraw(1L, 1L, 1000))
+                .willReturn(Optional.empty());
         given(accountRepository.findById(anyLong()))
                 .willReturn(Optional.of(
                         Account.builder()
@@ -817,6 +865,8 @@ class AccountServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
+        given(ledgerService.withdraw(1L, 1L, 2000))
+                .willReturn(Optional.empty());
         given(accountRepository.findById(anyLong()))
                 .willReturn(Optional.of(
                         Account.builder()
@@ -836,4 +886,4 @@ class AccountServiceTest {
         //then
         assertEquals(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT, customException.getErrorCode());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.entity.LedgerEntry;
+import com.sskkilm.cashflow.repository.DailyRemittanceRollupRepository;
+import com.sskkilm.cashflow.repository.LedgerEntryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DailyRemittanceRollupServiceTest {
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private DailyRemittanceRollupRepository dailyRemittanceRollupRepository;
+
+    @InjectMocks
+    private DailyRemittanceRollupService dailyRemittanceRollupService;
+
+    @Test
+    @DisplayName("같은 계좌, 같은 날짜의 입금 분개는 합쳐서 집계하고 집계한 분개를 rolledUp으로 표시")
+    void rollUpReceived() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 5, 12, 0);
+        given(ledgerEntryRepository.findNotRolledUp(PageRequest.ofSize(10)))
+                .willReturn(List.of(
+                        LedgerEntry.builder().id(12L).accountId(2L).amount(1000).rolledUp(false).createdAt(createdAt).build(),
+                        LedgerEntry.builder().id(14L).accountId(2L).amount(500).rolledUp(false).createdAt(createdAt).build()
+                ));
+
+        //when
+        int rolledUp = dailyRemittanceRollupService.rollUpReceived(10);
+
+        //then
+        assertEquals(2, rolledUp);
+        verify(dailyRemittanceRollupRepository).addReceived(2L, LocalDate.of(2024, 5, 5), 1500L);
+        verify(ledgerEntryRepository).markRolledUp(List.of(12L, 14L));
+    }
+
+    @Test
+    @DisplayName("집계할 분개가 없으면 아무것도 갱신하지 않음")
+    void rollUpReceived_empty() {
+        //given
+        given(ledgerEntryRepository.findNotRolledUp(PageRequest.ofSize(10)))
+                .willReturn(List.of());
+
+        //when
+        int rolledUp = dailyRemittanceRollupService.rollUpReceived(10);
+
+        //then
+        assertEquals(0, rolledUp);
+        verify(dailyRemittanceRollupRepository, never()).addReceived(any(), any(), any());
+        verify(ledgerEntryRepository, never()).markRolledUp(anyList());
+    }
+}
@@ -0,0 +1,255 @@
+package com.sskkilm.cashflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sskkilm.cashflow.dto.DepositDto;
+import com.sskkilm.cashflow.entity.IdempotencyRecord;
+import com.sskkilm.cashflow.enums.AccountErrorCode;
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private AccountCommandSerializer accountCommandSerializer;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(
+                idempotencyRecordRepository,
+                new IdempotentCommandExecutor(idempotencyRecordRepository),
+                accountCommandSerializer,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                100,
+                60000,
+                86400000
+        );
+        lenient().when(accountCommandSerializer.execute(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        // 선점한 기록을 명령 트랜잭션에서 다시 조회
+        AtomicReference<IdempotencyRecord> reserved = new AtomicReference<>();
+        lenient().when(idempotencyRecordRepository.saveAndFlush(any()))
+                .thenAnswer(invocation -> {
+                    reserved.set(invocation.getArgument(0));
+                    return reserved.get();
+                });
+        lenient().when(idempotencyRecordRepository.findByIdForUpdate(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(reserved.get()));
+    }
+
+    @Test
+    @DisplayName("같은 키로 재요청하면 저장된 응답을 반환하고 다시 처리하지 않음")
+    void execute_replay() {
+        //given
+        DepositDto.Request request = new DepositDto.Request(1L, 1000);
+        DepositDto.Response response = new DepositDto.Response(1L, 0, 1000, 1000);
+        AtomicInteger executed = new AtomicInteger();
+        given(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .willReturn(Optional.empty());
+
+        //when
+        DepositDto.Response first = idempotencyService.execute(1L, "key", "deposit", request,
+                DepositDto.Response.class, () -> {
+                    executed.incrementAndGet();
+                    return response;
+                });
+        DepositDto.Response second = idempotencyService.execute(1L, "key", "deposit", request,
+                DepositDto.Response.class, () -> {
+                    executed.incrementAndGet();
+                    return response;
+                });
+
+        //then
+        assertEquals(1, executed.get());
+        assertEquals(first, second);
+        verify(idempotencyRecordRepository, times(1)).findByUserIdAndIdempotencyKey(1L, "key");
+        verify(idempotencyRecordRepository).saveAndFlush(any());
+        verify(idempotencyRecordRepository).findByIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("계좌 파티션을 거치는 요청은 선점한 요청만 파티션에 넣고, 재요청은 파티션에 넣지 않음")
+    void execute_replayBeforeSerializer() {
+        //given
+        DepositDto.Request request = new DepositDto.Request(1L, 1000);
+        DepositDto.Response response = new DepositDto.Response(1L, 0, 1000, 1000);
+        given(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .willReturn(Optional.empty());
+
+        //when
+        DepositDto.Response first = idempotencyService.execute(1L, "key", "deposit", request,
+                DepositDto.Response.class, 1L, () -> response);
+        DepositDto.Response second = idempotencyService.execute(1L, "key", "deposit", request,
+                DepositDto.Response.class, 1L, () -> response);
+
+        //then
+        assertEquals(first, second);
+        verify(accountCommandSerializer, times(1)).execute(eq(1L), any());
+        verify(idempotencyRecordRepository).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 기록은 캐시에 남아 있어도 사용하지 않음")
+    void execute_expiredCache() {
+        //given
+        IdempotencyService shortTtl = new IdempotencyService(
+                idempotencyRecordRepository,
+                new IdempotentCommandExecutor(idempotencyRecordRepository),
+                accountCommandSerializer,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                100,
+                60000,
+                0
+        );
+        DepositDto.Request request = new DepositDto.Request(1L, 1000);
+        DepositDto.Response response = new DepositDto.Response(1L, 0, 1000, 1000);
+        AtomicInteger executed = new AtomicInteger();
+        given(idempotencyRecordRepository.saveAndFlush(any()))
+                .willAnswer(invocation -> {
+                    IdempotencyRecord record = invocation.getArgument(0);
+                    // 저장 시각을 채우는 auditing 대신 과거 시각으로 저장
+                    ReflectionTestUtils.setField(record, "createdAt", LocalDateTime.now().minusDays(2));
+                    return record;
+                });
+        given(idempotencyRecordRepository.findByIdForUpdate(any()))
+                .willAnswer(invocation -> Optional.of(IdempotencyRecord.builder().build()));
+        given(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .willReturn(Optional.empty());
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            shortTtl.execute(1L, "key", "deposit", request, DepositDto.Response.class, () -> {
+                executed.incrementAndGet();
+                return response;
+            });
+        }
+
+        //then
+        assertEquals(2, executed.get());
+        verify(idempotencyRecordRepository, times(2)).findByUserIdAndIdempotencyKey(1L, "key");
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 실패")
+    void execute_fail_keyReused() {
+        //given
+        given(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .willReturn(Optional.empty());
+        idempotencyService.execute(1L, "key", "deposit", new DepositDto.Request(1L, 1000),
+                DepositDto.Response.class, () -> new DepositDto.Response(1L, 0, 1000, 1000));
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> idempotencyService.execute(1L, "key", "deposit", new DepositDto.Request(1L, 2000),
+                        DepositDto.Response.class, () -> new DepositDto.Response(1L, 1000, 2000, 3000))
+        );
+
+        //then
+        assertEquals(GlobalErrorCode.IDEMPOTENCY_KEY_REUSED, customException.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 재요청하면 실패")
+    void execute_fail_requestInProgress() {
+        //given
+        DepositDto.Request request = new DepositDto.Request(1L, 1000);
+        given(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .willReturn(Optional.empty());
+        idempotencyService.execute(1L, "key", "deposit", request, DepositDto.Response.class, () -> {
+            // 처리 도중 같은 키로 재요청
+            given(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key"))
+                    .willReturn(Optional.of(IdempotencyRecord.builder()
+                            .userId(1L)
+                            .idempotencyKey("key")
+                            .requestHash(captureRequestHash())
+                            .build()));
+            CustomException customException = assertThrows(CustomException.class,
+                    () -> idempotencyService.execute(1L, "key", "deposit", request,
+                            DepositDto.Response.class, () -> null)
+            );
+            assertEquals(GlobalErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, customException.getErrorCode());
+            return new DepositDto.Response(1L, 0, 1000, 1000);
+        });
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 같은 키로 다시 시도할 수 있도록 선점을 해제")
+    void execute_fail_releaseKey() {
+        //given
+        given(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .willReturn(Optional.empty());
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> idempotencyService.execute(1L, "key", "withdraw", new DepositDto.Request(1L, 1000),
+                        DepositDto.Response.class, () -> {
+                            throw new CustomException(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT);
+                        })
+        );
+
+        //then
+        assertEquals(AccountErrorCode.ACCOUNT_BALANCE_INSUFFICIENT, customException.getErrorCode());
+        verify(idempotencyRecordRepository).deleteReservation(any());
+    }
+
+    @Test
+    @DisplayName("응답 없이 남은 선점은 만료되면 같은 키로 다시 처리")
+    void execute_abandonedReservation() {
+        //given
+        DepositDto.Request request = new DepositDto.Request(1L, 1000);
+        DepositDto.Response response = new DepositDto.Response(1L, 0, 1000, 1000);
+        idempotencyService.execute(1L, "other", "deposit", request, DepositDto.Response.class, () -> response);
+        given(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .willReturn(Optional.of(IdempotencyRecord.builder()
+                        .id(10L)
+                        .userId(1L)
+                        .idempotencyKey("key")
+                        .requestHash(captureRequestHash())
+                        .createdAt(LocalDateTime.now().minusMinutes(5))
+                        .build()));
+        given(idempotencyRecordRepository.deleteAbandonedReservation(eq(10L), any()))
+                .willReturn(1);
+
+        //when
+        DepositDto.Response result = idempotencyService.execute(1L, "key", "deposit", request,
+                DepositDto.Response.class, () -> response);
+
+        //then
+        assertEquals(response, result);
+        verify(idempotencyRecordRepository, times(2)).saveAndFlush(any());
+    }
+
+    private String captureRequestHash() {
+        return mockingDetails(idempotencyRecordRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("saveAndFlush"))
+                .map(invocation -> ((IdempotencyRecord) invocation.getArgument(0)).getRequestHash())
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,226 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.dto.LedgerTailDto;
+import com.sskkilm.cashflow.entity.Account;
+import com.sskkilm.cashflow.entity.LedgerEntry;
+import com.sskkilm.cashflow.enums.AccountStatus;
+import com.sskkilm.cashflow.enums.LedgerEntryType;
+import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.repository.LedgerEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    private LedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerService = new LedgerService(accountRepository, ledgerEntryRepository, 1000);
+    }
+
+    @Test
+    @DisplayName("잔액은 스냅샷과 스냅샷에 반영되지 않은 분개의 합")
+    void balanceOf() {
+        //given
+        Account account = Account.builder()
+                .id(1L)
+                .balance(1000)
+                .build();
+        given(ledgerEntryRepository.findTail(1L))
+                .willReturn(Optional.of(new LedgerTailDto(1L, 15L, 500L, 3L)));
+
+        //when
+        Integer balance = ledgerService.balanceOf(account);
+
+        //then
+        assertEquals(1500, balance);
+    }
+
+    @Test
+    @DisplayName("입금은 계좌 입금 분개와 외부 계정 출금 분개를 같은 거래로 기록")
+    @SuppressWarnings("unchecked")
+    void deposit() {
+        //when
+        ledgerService.deposit(1L, 1000);
+
+        //then
+        ArgumentCaptor<List<LedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ledgerEntryRepository).saveAll(captor.capture());
+        List<LedgerEntry> entries = captor.getValue();
+        assertNull(entries.get(0).getAccountId());
+        assertEquals(-1000, entries.get(0).getAmount());
+        assertEquals(1L, entries.get(1).getAccountId());
+        assertEquals(1000, entries.get(1).getAmount());
+        assertEquals(LedgerEntryType.DEPOSIT, entries.get(1).getType());
+        assertEquals(entries.get(0).getTransactionId(), entries.get(1).getTransactionId());
+    }
+
+    @Test
+    @DisplayName("출금 - 스냅샷이 충분하면 조건부 UPDATE 한 번으로 차감하고 출금 분개는 compacted로 추가")
+    @SuppressWarnings("unchecked")
+    void withdraw_snapshot() {
+        //given
+        given(accountRepository.debitSnapshot(1L, 2L, AccountStatus.ACTIVE, 200))
+                .willReturn(1);
+        given(accountRepository.findBalanceById(1L))
+                .willReturn(Optional.of(800));
+
+        //when
+        Optional<Integer> balance = ledgerService.withdraw(1L, 2L, 200);
+
+        //then
+        assertEquals(Optional.of(800), balance);
+        verify(accountRepository, never()).debitBalance(any(), any(), any(), any());
+        ArgumentCaptor<List<LedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ledgerEntryRepository).saveAll(captor.capture());
+        LedgerEntry debit = captor.getValue().get(0);
+        assertEquals(1L, debit.getAccountId());
+        assertEquals(-200, debit.getAmount());
+        assertTrue(debit.isCompacted());
+        assertTrue(captor.getValue().get(1).isRolledUp());
+        verify(ledgerEntryRepository, never()).findUncompacted(any(), any());
+    }
+
+    @Test
+    @DisplayName("출금 - 스냅샷이 부족하면 스냅샷에 반영되지 않은 입금까지 더한 잔액으로 다시 조건부 차감")
+    void withdraw_balance() {
+        //given
+        given(accountRepository.debitSnapshot(1L, 2L, AccountStatus.ACTIVE, 200))
+                .willReturn(0);
+        given(accountRepository.debitBalance(1L, 2L, AccountStatus.ACTIVE, 200))
+                .willReturn(1);
+        given(accountRepository.findBalanceById(1L))
+                .willReturn(Optional.of(100));
+
+        //when
+        Optional<Integer> balance = ledgerService.withdraw(1L, 2L, 200);
+
+        //then
+        assertEquals(Optional.of(100), balance);
+        verify(ledgerEntryRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("출금 - 조건이 맞지 않으면 분개를 추가하지 않음")
+    void withdraw_rejected() {
+        //given
+        given(accountRepository.debitSnapshot(1L, 2L, AccountStatus.ACTIVE, 200))
+                .willReturn(0);
+        given(accountRepository.debitBalance(1L, 2L, AccountStatus.ACTIVE, 200))
+                .willReturn(0);
+
+        //when
+        Optional<Integer> balance = ledgerService.withdraw(1L, 2L, 200);
+
+        //then
+        assertTrue(balance.isEmpty());
+        verify(ledgerEntryRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("송금 - 수금 계좌 row는 조회, 잠금, 변경하지 않고 스냅샷에 반영되지 않은 입금 분개만 추가")
+    @SuppressWarnings("unchecked")
+    void transfer_receivingAccountNotLocked() {
+        //given
+        given(accountRepository.debitSnapshot(1L, 2L, AccountStatus.ACTIVE, 300))
+                .willReturn(1);
+        given(accountRepository.findBalanceById(1L))
+                .willReturn(Optional.of(700));
+
+        //when
+        ledgerService.transfer(1L, 2L, 3L, 300);
+
+        //then
+        verify(accountRepository).debitSnapshot(1L, 2L, AccountStatus.ACTIVE, 300);
+        verify(accountRepository).findBalanceById(1L);
+        verifyNoMoreInteractions(accountRepository);
+        ArgumentCaptor<List<LedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ledgerEntryRepository).saveAll(captor.capture());
+        LedgerEntry credit = captor.getValue().get(1);
+        assertEquals(3L, credit.getAccountId());
+        assertEquals(300, credit.getAmount());
+        assertEquals(LedgerEntryType.REMITTANCE, credit.getType());
+        assertFalse(credit.isCompacted());
+        assertFalse(credit.isRolledUp());
+        assertTrue(captor.getValue().get(0).isRolledUp());
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 계좌를 잠근 뒤 갱신")
+    void compact() {
+        //given
+        Account account = Account.builder()
+                .id(1L)
+                .balance(1000)
+                .build();
+        given(accountRepository.findByIdForUpdate(1L))
+                .willReturn(Optional.of(account));
+        given(ledgerEntryRepository.findUncompacted(1L, PageRequest.ofSize(1000)))
+                .willReturn(List.of(ledgerEntry(11L, -100), ledgerEntry(12L, -100)));
+
+        //when
+        ledgerService.compact(1L);
+
+        //then
+        assertEquals(800, account.getBalance());
+        verify(ledgerEntryRepository).markCompacted(List.of(11L, 12L));
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 반영할 분개가 없으면 갱신하지 않음")
+    void compact_empty() {
+        //given
+        Account account = Account.builder()
+                .id(1L)
+                .balance(1000)
+                .build();
+        given(accountRepository.findByIdForUpdate(1L))
+                .willReturn(Optional.of(account));
+        given(ledgerEntryRepository.findUncompacted(1L, PageRequest.ofSize(1000)))
+                .willReturn(List.of());
+
+        //when
+        ledgerService.compact(1L);
+
+        //then
+        assertEquals(1000, account.getBalance());
+        verify(ledgerEntryRepository, never()).markCompacted(any());
+    }
+
+    private LedgerEntry ledgerEntry(Long id, Integer amount) {
+        return LedgerEntry.builder()
+                .id(id)
+                .accountId(1L)
+                .type(LedgerEntryType.REMITTANCE)
+                .amount(amount)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RemittanceExportExecutorTest {
+
+    @Test
+    @DisplayName("실행 중인 내보내기와 대기열이 가득 차면 SERVER_BUSY")
+    void submit_fail_serverBusy() throws InterruptedException {
+        //given
+        RemittanceExportExecutor executor = new RemittanceExportExecutor(1, 1, 60000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(MediaType.TEXT_PLAIN, outputStream -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.submit(MediaType.TEXT_PLAIN, outputStream -> {
+        });
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> executor.submit(MediaType.TEXT_PLAIN, outputStream -> {
+                })
+        );
+
+        //then
+        assertEquals(GlobalErrorCode.SERVER_BUSY, customException.getErrorCode());
+        release.countDown();
+        executor.shutdown();
+    }
+}
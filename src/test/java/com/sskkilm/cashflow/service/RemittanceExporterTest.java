@@ -0,0 +1,181 @@
+package com.sskkilm.cashflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.entity.Account;
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.AccountErrorCode;
+import com.sskkilm.cashflow.enums.Authority;
+import com.sskkilm.cashflow.enums.RemittanceExportFormat;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.repository.ColdRemittanceRepository;
+import com.sskkilm.cashflow.repository.RemittanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RemittanceExporterTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private RemittanceRepository remittanceRepository;
+
+    @Mock
+    private ColdRemittanceRepository coldRemittanceRepository;
+
+    @Mock
+    private RemittancePartitionManager remittancePartitionManager;
+
+    private RemittanceExporter remittanceExporter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        remittanceExporter = new RemittanceExporter(
+                accountRepository, remittanceRepository, coldRemittanceRepository, remittancePartitionManager, objectMapper
+        );
+    }
+
+    @Test
+    @DisplayName("송금 이력 CSV 내보내기")
+    void export_csv() throws Exception {
+        //given
+        given(remittanceRepository.streamAllByAccountId(eq(1L), any()))
+                .willReturn(Stream.of(
+                        RemittanceDto.builder()
+                                .receivingAccountNumber("1122334455")
+                                .remittanceAmount(1000)
+                                .accountBalanceSnapshot(0)
+                                .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                .build()
+                ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        remittanceExporter.export(1L, RemittanceExportFormat.CSV, outputStream);
+
+        //then
+        assertEquals("receivingAccountNumber,remittanceAmount,accountBalanceSnapshot,createdAt\n" +
+                        "1122334455,1000,0,2024-05-05T00:00\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("송금 이력 CSV 내보내기 - 구분자, 따옴표, 수식 시작 문자가 들어간 계좌번호는 이스케이프")
+    void export_csv_escape() throws Exception {
+        //given
+        given(remittanceRepository.streamAllByAccountId(eq(1L), any()))
+                .willReturn(Stream.of(
+                        RemittanceDto.builder()
+                                .receivingAccountNumber("=HYPERLINK(\"http://a\",\"b\")")
+                                .remittanceAmount(1000)
+                                .accountBalanceSnapshot(0)
+                                .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                .build(),
+                        RemittanceDto.builder()
+                                .receivingAccountNumber("11,22\"33")
+                                .remittanceAmount(2000)
+                                .accountBalanceSnapshot(1000)
+                                .createdAt(LocalDateTime.of(2024, 5, 4, 0, 0))
+                                .build()
+                ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        remittanceExporter.export(1L, RemittanceExportFormat.CSV, outputStream);
+
+        //then
+        assertEquals("receivingAccountNumber,remittanceAmount,accountBalanceSnapshot,createdAt\n" +
+                        "\"'=HYPERLINK(\"\"http://a\"\",\"\"b\"\")\",1000,0,2024-05-05T00:00\n" +
+                        "\"11,22\"\"33\",2000,1000,2024-05-04T00:00\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("송금 이력 NDJSON 내보내기")
+    void export_ndjson() throws Exception {
+        //given
+        given(remittanceRepository.streamAllByAccountId(eq(1L), any()))
+                .willReturn(Stream.of(
+                        RemittanceDto.builder()
+                                .receivingAccountNumber("1122334455")
+                                .remittanceAmount(1000)
+                                .accountBalanceSnapshot(0)
+                                .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                .build(),
+                        RemittanceDto.builder()
+                                .receivingAccountNumber("1122334455")
+                                .remittanceAmount(2000)
+                                .accountBalanceSnapshot(1000)
+                                .createdAt(LocalDateTime.of(2024, 5, 4, 0, 0))
+                                .build()
+                ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        remittanceExporter.export(1L, RemittanceExportFormat.NDJSON, outputStream);
+
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"receivingAccountNumber\":\"1122334455\",\"remittanceAmount\":1000," +
+                "\"accountBalanceSnapshot\":0,\"createdAt\":\"2024-05-05T00:00:00\"}", lines[0]);
+    }
+
+    @Test
+    @DisplayName("송금 이력 내보내기 실패 - 계좌 소유주 다름")
+    void checkAccountOwner_fail_AccountUserUnMatch() {
+        //given
+        User user1 = User.builder()
+                .id(1L)
+                .loginId("root1")
+                .password("root1")
+                .role(Authority.ROLE_USER)
+                .build();
+        User user2 = User.builder()
+                .id(2L)
+                .loginId("root2")
+                .password("root2")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(1L)
+                                .user(user1)
+                                .build()
+                ));
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> remittanceExporter.checkAccountOwner(1L, user2)
+        );
+
+        //then
+        assertEquals(AccountErrorCode.ACCOUNT_USER_UN_MATCH, customException.getErrorCode());
+    }
+}
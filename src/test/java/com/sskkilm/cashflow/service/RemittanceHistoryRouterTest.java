@@ -0,0 +1,248 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.dto.RemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceVersionDto;
+import com.sskkilm.cashflow.entity.Account;
+import com.sskkilm.cashflow.enums.RemittanceErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.ColdRemittanceRepository;
+import com.sskkilm.cashflow.repository.DailyRemittanceRollupRepository;
+import com.sskkilm.cashflow.repository.RemittanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RemittanceHistoryRouterTest {
+
+    private static final LocalDateTime COLD_BEFORE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private RemittanceRepository remittanceRepository;
+
+    @Mock
+    private ColdRemittanceRepository coldRemittanceRepository;
+
+    @Mock
+    private DailyRemittanceRollupRepository dailyRemittanceRollupRepository;
+
+    @Mock
+    private RemittancePartitionManager remittancePartitionManager;
+
+    @InjectMocks
+    private RemittanceHistoryRouter remittanceHistoryRouter;
+
+    @Test
+    @DisplayName("송금 이력 버전은 hot 구간과 경계 이전 cold 구간의 건수를 더하고 마지막 송금 id는 큰 쪽")
+    void findVersion() {
+        //given
+        given(remittancePartitionManager.coldBefore()).willReturn(COLD_BEFORE);
+        given(remittancePartitionManager.isEnabled()).willReturn(true);
+        given(remittanceRepository.findVersion(1L, COLD_BEFORE))
+                .willReturn(new RemittanceVersionDto(2L, 150L));
+        given(coldRemittanceRepository.findVersion(1L, COLD_BEFORE))
+                .willReturn(new RemittanceVersionDto(5L, 90L));
+
+        //when
+        RemittanceVersionDto version = remittanceHistoryRouter.findVersion(1L);
+
+        //then
+        assertEquals(new RemittanceVersionDto(7L, 150L), version);
+    }
+
+    @Test
+    @DisplayName("cold 경계 이후 기간은 hot 테이블만 조회")
+    void findPage_hotOnly() {
+        //given
+        Account account = Account.builder().id(1L).build();
+        LocalDateTime startDate = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2024, 3, 31, 23, 59);
+        PageRequest pageRequest = PageRequest.of(0, 30, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(remittancePartitionManager.coldBefore()).willReturn(COLD_BEFORE);
+        given(remittanceRepository.findAllByAccountAndCreatedAt(account, startDate, endDate, pageRequest))
+                .willReturn(new PageImpl<>(List.of(), pageRequest, 0));
+
+        //when
+        remittanceHistoryRouter.findPage(account, startDate, endDate, pageRequest);
+
+        //then
+        verify(coldRemittanceRepository, never()).findAllByAccountIdAndCreatedAt(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("cold 경계에 걸친 기간은 hot 구간 다음에 cold 구간을 이어서 조회")
+    void findPage_stitch() {
+        //given
+        Account account = Account.builder().id(1L).build();
+        LocalDateTime startDate = LocalDateTime.of(2023, 12, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2024, 1, 31, 23, 59);
+        PageRequest pageRequest = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(remittancePartitionManager.coldBefore()).willReturn(COLD_BEFORE);
+        given(remittanceRepository.countSegment(1L, COLD_BEFORE, endDate)).willReturn(3L);
+        given(coldRemittanceRepository.countSegment(1L, startDate, COLD_BEFORE)).willReturn(5L);
+        given(remittanceRepository.findSegment(1L, COLD_BEFORE, endDate, 2L, 2))
+                .willReturn(List.of(remittance(3000)));
+        given(coldRemittanceRepository.findSegment(1L, startDate, COLD_BEFORE, 0L, 1))
+                .willReturn(List.of(remittance(2000)));
+
+        //when
+        Page<RemittanceDto> page = remittanceHistoryRouter.findPage(account, startDate, endDate, pageRequest);
+
+        //then
+        assertEquals(8, page.getTotalElements());
+        assertEquals(3000, page.getContent().get(0).remittanceAmount());
+        assertEquals(2000, page.getContent().get(1).remittanceAmount());
+    }
+
+    @Test
+    @DisplayName("cold 경계에 걸친 기간은 최신순 정렬만 가능")
+    void findPage_stitch_fail_sortNotSupported() {
+        //given
+        Account account = Account.builder().id(1L).build();
+        PageRequest pageRequest = PageRequest.of(0, 30, Sort.by(Sort.Direction.ASC, "amount"));
+        given(remittancePartitionManager.coldBefore()).willReturn(COLD_BEFORE);
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> remittanceHistoryRouter.findPage(
+                        account,
+                        LocalDateTime.of(2023, 12, 1, 0, 0),
+                        LocalDateTime.of(2024, 1, 31, 23, 59),
+                        pageRequest
+                )
+        );
+
+        //then
+        assertEquals(RemittanceErrorCode.REMITTANCE_HISTORY_SORT_NOT_SUPPORTED, customException.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("커서 조회는 hot 이력을 다 읽으면 cold 경계 이전의 cold 이력을 이어서 조회")
+    void findAfter_continueToCold() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 0, 0);
+        given(remittancePartitionManager.coldBefore()).willReturn(COLD_BEFORE);
+        given(remittancePartitionManager.isEnabled()).willReturn(true);
+        given(remittanceRepository.findFirstByAccountId(1L, COLD_BEFORE, PageRequest.ofSize(3)))
+                .willReturn(List.of(new RemittanceKeysetDto(10L, "1122334455", 1000, 0, createdAt)));
+        given(coldRemittanceRepository.findAllByAccountIdAfter(1L, COLD_BEFORE, 0L, PageRequest.ofSize(2)))
+                .willReturn(List.of(new RemittanceKeysetDto(
+                        5L, "1122334455", 2000, 1000, LocalDateTime.of(2023, 12, 31, 0, 0)
+                )));
+
+        //when
+        List<RemittanceKeysetDto> remittances = remittanceHistoryRouter.findAfter(1L, null, 3);
+
+        //then
+        assertEquals(2, remittances.size());
+        assertEquals(new RemittanceCursor(LocalDateTime.of(2023, 12, 31, 0, 0), 5L),
+                remittances.get(1).toCursor());
+    }
+
+    @Test
+    @DisplayName("기간 없는 이력 조회도 hot 이력 다음에 cold 이력을 이어서 조회")
+    void findSlice_stitch() {
+        //given
+        Account account = Account.builder().id(1L).build();
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(remittancePartitionManager.coldBefore()).willReturn(COLD_BEFORE);
+        given(remittancePartitionManager.isEnabled()).willReturn(true);
+        given(dailyRemittanceRollupRepository.sumRemittanceCount(
+                1L, COLD_BEFORE.toLocalDate(), LocalDate.of(9999, 12, 31)
+        )).willReturn(1L);
+        given(remittanceRepository.findSegment(
+                1L, COLD_BEFORE, LocalDateTime.of(9999, 12, 31, 23, 59, 59), 0L, 3
+        )).willReturn(List.of(remittance(3000)));
+        given(coldRemittanceRepository.findSegment(
+                1L, LocalDateTime.of(1000, 1, 1, 0, 0), COLD_BEFORE, 0L, 2
+        )).willReturn(List.of(remittance(2000), remittance(1000)));
+
+        //when
+        Slice<RemittanceDto> slice = remittanceHistoryRouter.findSlice(account, pageRequest);
+
+        //then
+        assertEquals(2, slice.getContent().size());
+        assertEquals(3000, slice.getContent().get(0).remittanceAmount());
+        assertEquals(2000, slice.getContent().get(1).remittanceAmount());
+        assertTrue(slice.hasNext());
+        verify(remittanceRepository, never()).findAllByAccount(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("검색은 hot 이력에서 다 채우지 못하면 cold 경계 이전의 cold 이력을 이어서 검색")
+    void search_continueToCold() {
+        //given
+        RemittanceSearchDto.Request condition = new RemittanceSearchDto.Request(
+                null, 1000, null, null, null, null
+        );
+        given(remittancePartitionManager.coldBefore()).willReturn(COLD_BEFORE);
+        given(remittancePartitionManager.isEnabled()).willReturn(true);
+        given(remittanceRepository.search(1L, condition, COLD_BEFORE, null, 3))
+                .willReturn(List.of(new RemittanceSearchKeysetDto(
+                        10L, "1122334455", 1000, 0, LocalDateTime.of(2024, 1, 2, 0, 0)
+                )));
+        given(coldRemittanceRepository.search(1L, condition, new RemittanceCursor(COLD_BEFORE, 0L), 2))
+                .willReturn(List.of(new RemittanceSearchKeysetDto(
+                        5L, "1122334455", 2000, 1000, LocalDateTime.of(2023, 12, 31, 0, 0)
+                )));
+
+        //when
+        List<RemittanceSearchKeysetDto> remittances = remittanceHistoryRouter.search(1L, condition, null, 3);
+
+        //then
+        assertEquals(2, remittances.size());
+        assertEquals(5L, remittances.get(1).remittanceId());
+    }
+
+    @Test
+    @DisplayName("기간 조회가 cold 경계 이후에서 끝나면 cold 이력은 조회하지 않음")
+    void findBetween_hotOnly() {
+        //given
+        LocalDateTime startDate = LocalDateTime.of(2024, 3, 1, 0, 0);
+        RemittanceCursor cursor = new RemittanceCursor(LocalDateTime.of(2024, 3, 31, 23, 59), Long.MAX_VALUE);
+        given(remittancePartitionManager.coldBefore()).willReturn(COLD_BEFORE);
+        given(remittanceRepository.findAllByAccountIdAfter(
+                1L, startDate, cursor.createdAt(), Long.MAX_VALUE, PageRequest.ofSize(3)
+        )).willReturn(List.of());
+
+        //when
+        List<RemittanceKeysetDto> remittances = remittanceHistoryRouter.findBetween(1L, startDate, cursor, 3);
+
+        //then
+        assertEquals(0, remittances.size());
+        verify(coldRemittanceRepository, never()).findAllByAccountIdAfter(any(), any(), any(), any(), any());
+    }
+
+    private RemittanceDto remittance(int amount) {
+        return RemittanceDto.builder()
+                .receivingAccountNumber("1122334455")
+                .remittanceAmount(amount)
+                .accountBalanceSnapshot(0)
+                .createdAt(COLD_BEFORE)
+                .build();
+    }
+}
@@ -1,33 +1,53 @@
 package com.sskkilm.cashflow.service;
 
+import com.sskkilm.cashflow.dto.CreateRemittanceBatchDto;
 import com.sskkilm.cashflow.dto.CreateRemittanceDto;
+import com.sskkilm.cashflow.dto.IncomingRemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.IncomingRemittancePageDto;
+import com.sskkilm.cashflow.dto.ReceivingAccountDto;
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceCursorPageDto;
 import com.sskkilm.cashflow.dto.RemittanceDto;
+import com.sskkilm.cashflow.dto.RemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchDto;
+import com.sskkilm.cashflow.dto.RemittanceSearchKeysetDto;
+import com.sskkilm.cashflow.dto.RemittanceSliceDto;
+import com.sskkilm.cashflow.dto.RemittanceStatusDto;
+import com.sskkilm.cashflow.dto.RemittanceVersionDto;
 import com.sskkilm.cashflow.entity.Account;
 import com.sskkilm.cashflow.entity.Remittance;
+import com.sskkilm.cashflow.entity.RemittanceRequest;
 import com.sskkilm.cashflow.entity.User;
 import com.sskkilm.cashflow.enums.AccountErrorCode;
 import com.sskkilm.cashflow.enums.AccountStatus;
 import com.sskkilm.cashflow.enums.Authority;
+import com.sskkilm.cashflow.enums.RemittanceDirection;
 import com.sskkilm.cashflow.enums.RemittanceErrorCode;
+import com.sskkilm.cashflow.enums.RemittanceRequestStatus;
 import com.sskkilm.cashflow.exception.CustomException;
 import com.sskkilm.cashflow.repository.AccountRepository;
+import com.sskkilm.cashflow.repository.DailyRemittanceRollupRepository;
 import com.sskkilm.cashflow.repository.RemittanceRepository;
+import com.sskkilm.cashflow.repository.RemittanceRequestRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class RemittanceServiceTest {
@@ -38,11 +58,26 @@ class RemittanceServiceTest {
     @Mock
     private RemittanceRepository remittanceRepository;
 
+    @Mock
+    private RemittanceRequestRepository remittanceRequestRepository;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private AccountNumberResolver accountNumberResolver;
+
+    @Mock
+    private DailyRemittanceRollupRepository dailyRemittanceRollupRepository;
+
+    @Mock
+    private RemittanceHistoryRouter remittanceHistoryRouter;
+
     @InjectMocks
     private RemittanceService remittanceService;
 
     @Test
-    @DisplayName("송금 성공")
+    @DisplayName("송금 성공 - 조건부 차감 후 잔액을 송금 후 잔액으로 기록")
     void createRemittance_success() {
         //given
         User user = User.builder()
@@ -51,23 +86,10 @@ class RemittanceServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        Account account = Account.builder()
-                .id(1L)
-                .user(user)
-                .status(AccountStatus.ACTIVE)
-                .balance(1000)
-                .build();
-        given(accountRepository.findById(anyLong()))
-                .willReturn(Optional.of(account));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(2L)
-                                .user(user)
-                                .status(AccountStatus.ACTIVE)
-                                .balance(1000)
-                                .build()
-                ));
+        given(accountNumberResolver.resolve(anyString()))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(ledgerService.transfer(1L, 1L, 2L, 1000))
+                .willReturn(Optional.of(0));
         LocalDateTime createdAt = LocalDateTime.of(
                 2024, 5, 5,
                 6, 30
@@ -78,7 +100,6 @@ class RemittanceServiceTest {
                                 .receivingAccountNumber("1122334455")
                                 .amount(1000)
                                 .accountBalanceSnapshot(0)
-                                .account(account)
                                 .createdAt(createdAt)
                                 .build()
                 );
@@ -96,6 +117,10 @@ class RemittanceServiceTest {
         assertEquals(1000, response.remittanceAmount());
         assertEquals(0, response.accountBalanceSnapshot());
         assertEquals(createdAt, response.createdAt());
+        verify(remittanceRepository).save(argThat(remittance -> remittance.getAccountBalanceSnapshot() == 0
+                && remittance.getReceivingAccountId() == 2L));
+        verify(dailyRemittanceRollupRepository).addSent(1L, createdAt.toLocalDate(), 1000, 0);
+        verify(accountRepository, never()).findByIdForUpdate(anyLong());
     }
 
     @Test
@@ -108,7 +133,11 @@ class RemittanceServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        given(accountRepository.findById(anyLong()))
+        given(accountNumberResolver.resolve(anyString()))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(ledgerService.transfer(1L, 1L, 2L, 1000))
+                .willReturn(Optional.empty());
+        given(accountRepository.findById(1L))
                 .willReturn(Optional.empty());
 
         //when
@@ -130,25 +159,24 @@ class RemittanceServiceTest {
     @DisplayName("송금 실패 - 계좌 소유주 다름")
     void createRemittance_fail_AccountUserUnMatch() {
         //given
-        User user1 = User.builder()
+        User user = User.builder()
                 .id(1L)
-                .loginId("root1")
-                .password("root1")
+                .loginId("root")
+                .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        User user2 = User.builder()
-                .id(2L)
-                .loginId("root2")
-                .password("root2")
-                .role(Authority.ROLE_USER)
+        Account account = Account.builder()
+                .id(1L)
+                .user(User.builder().id(2L).build())
+                .status(AccountStatus.ACTIVE)
+                .balance(1000)
                 .build();
-        given(accountRepository.findById(anyLong()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(1L)
-                                .user(user1)
-                                .build()
-                ));
+        given(accountNumberResolver.resolve(anyString()))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(ledgerService.transfer(1L, 1L, 2L, 1000))
+                .willReturn(Optional.empty());
+        given(accountRepository.findById(1L))
+                .willReturn(Optional.of(account));
 
         //when
         CustomException customException = assertThrows(CustomException.class,
@@ -157,7 +185,7 @@ class RemittanceServiceTest {
                                 1L,
                                 "1122334455",
                                 1000
-                        ), user2
+                        ), user
                 )
         );
 
@@ -175,14 +203,18 @@ class RemittanceServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        given(accountRepository.findById(anyLong()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(1L)
-                                .status(AccountStatus.INACTIVE)
-                                .user(user)
-                                .build()
-                ));
+        Account account = Account.builder()
+                .id(1L)
+                .user(user)
+                .status(AccountStatus.INACTIVE)
+                .balance(1000)
+                .build();
+        given(accountNumberResolver.resolve(anyString()))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(ledgerService.transfer(1L, 1L, 2L, 1000))
+                .willReturn(Optional.empty());
+        given(accountRepository.findById(1L))
+                .willReturn(Optional.of(account));
 
         //when
         CustomException customException = assertThrows(CustomException.class,
@@ -209,15 +241,18 @@ class RemittanceServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        given(accountRepository.findById(anyLong()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(1L)
-                                .status(AccountStatus.ACTIVE)
-                                .balance(0)
-                                .user(user)
-                                .build()
-                ));
+        Account account = Account.builder()
+                .id(1L)
+                .user(user)
+                .status(AccountStatus.ACTIVE)
+                .balance(500)
+                .build();
+        given(accountNumberResolver.resolve(anyString()))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(ledgerService.transfer(1L, 1L, 2L, 1000))
+                .willReturn(Optional.empty());
+        given(accountRepository.findById(1L))
+                .willReturn(Optional.of(account));
 
         //when
         CustomException customException = assertThrows(CustomException.class,
@@ -235,7 +270,7 @@ class RemittanceServiceTest {
     }
 
     @Test
-    @DisplayName("송금 실패 - 존재하지 않는 수금 계좌")
+    @DisplayName("송금 실패 - 존재하지 않는 수금 계좌, 송금 계좌에서 차감하지 않음")
     void createRemittance_fail_ReceivingAccountNotFound() {
         //given
         User user = User.builder()
@@ -244,16 +279,7 @@ class RemittanceServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        given(accountRepository.findById(anyLong()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(1L)
-                                .status(AccountStatus.ACTIVE)
-                                .balance(1000)
-                                .user(user)
-                                .build()
-                ));
-        given(accountRepository.findByAccountNumber(anyString()))
+        given(accountNumberResolver.resolve(anyString()))
                 .willReturn(Optional.empty());
 
         //when
@@ -269,10 +295,11 @@ class RemittanceServiceTest {
 
         //then
         assertEquals(AccountErrorCode.ACCOUNT_NOT_FOUND, customException.getErrorCode());
+        verify(ledgerService, never()).transfer(anyLong(), anyLong(), anyLong(), anyInt());
     }
 
     @Test
-    @DisplayName("송금 실패 - 수금 계좌 비활성")
+    @DisplayName("송금 실패 - 수금 계좌 비활성, 송금 계좌에서 차감하지 않음")
     void createRemittance_fail_ReceivingAccountCanNotUse() {
         //given
         User user = User.builder()
@@ -281,22 +308,8 @@ class RemittanceServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
-        given(accountRepository.findById(anyLong()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(1L)
-                                .status(AccountStatus.ACTIVE)
-                                .balance(1000)
-                                .user(user)
-                                .build()
-                ));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(
-                        Account.builder()
-                                .id(2L)
-                                .status(AccountStatus.INACTIVE)
-                                .build()
-                ));
+        given(accountNumberResolver.resolve(anyString()))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.INACTIVE)));
 
         //when
         CustomException customException = assertThrows(CustomException.class,
@@ -311,6 +324,7 @@ class RemittanceServiceTest {
 
         //then
         assertEquals(RemittanceErrorCode.RECEIVING_ACCOUNT_CAN_NOT_USE, customException.getErrorCode());
+        verify(ledgerService, never()).transfer(anyLong(), anyLong(), anyLong(), anyInt());
     }
 
     @Test
@@ -323,36 +337,247 @@ class RemittanceServiceTest {
                 .password("root")
                 .role(Authority.ROLE_USER)
                 .build();
+        given(accountNumberResolver.resolve(anyString()))
+                .willReturn(Optional.of(new ReceivingAccountDto(1L, AccountStatus.ACTIVE)));
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> remittanceService.createRemittance(
+                        new CreateRemittanceDto.Request(
+                                1L,
+                                "1122334455",
+                                1000
+                        ), user
+                )
+        );
+
+        //then
+        assertEquals(RemittanceErrorCode.REMITTANCE_AND_RECEIVING_ACCOUNT_SAME, customException.getErrorCode());
+        verify(ledgerService, never()).transfer(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("일괄 송금 - 항목별 결과 반환")
+    void createRemittances_success() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountNumberResolver.resolve("1122334455"))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(accountNumberResolver.resolve("9999999999"))
+                .willReturn(Optional.empty());
+        given(ledgerService.transfer(1L, 1L, 2L, 1000))
+                .willReturn(Optional.of(0));
+        given(remittanceRepository.save(any()))
+                .willReturn(
+                        Remittance.builder()
+                                .receivingAccountNumber("1122334455")
+                                .amount(1000)
+                                .accountBalanceSnapshot(0)
+                                .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                .build()
+                );
+
+        //when
+        CreateRemittanceBatchDto.Response response = remittanceService.createRemittances(
+                new CreateRemittanceBatchDto.Request(List.of(
+                        new CreateRemittanceDto.Request(1L, "1122334455", 1000),
+                        new CreateRemittanceDto.Request(1L, "9999999999", 0)
+                )), user
+        );
+
+        //then
+        assertEquals(1, response.successCount());
+        assertEquals(1, response.failureCount());
+        assertTrue(response.results().get(0).success());
+        assertEquals("1122334455", response.results().get(0).remittance().receivingAccountNumber());
+        assertFalse(response.results().get(1).success());
+        assertEquals(AccountErrorCode.ACCOUNT_NOT_FOUND.toString(), response.results().get(1).errorCode());
+        verify(ledgerService, times(1)).transfer(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("일괄 송금 - 송금 계좌를 account_id 오름차순으로 미리 잠금")
+    void createRemittances_lockAccountsInAccountIdOrder() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountNumberResolver.resolve(anyString()))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
         given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.empty());
+
+        //when
+        remittanceService.createRemittances(
+                new CreateRemittanceBatchDto.Request(List.of(
+                        new CreateRemittanceDto.Request(3L, "1122334455", 1000),
+                        new CreateRemittanceDto.Request(1L, "1122334455", 1000),
+                        new CreateRemittanceDto.Request(3L, "1122334455", 1000)
+                )), user
+        );
+
+        //then
+        InOrder inOrder = inOrder(accountRepository, ledgerService);
+        inOrder.verify(accountRepository).findAllByIdForUpdate(argThat(ids ->
+                List.copyOf(ids).equals(List.of(1L, 3L))));
+        inOrder.verify(ledgerService).transfer(3L, 1L, 2L, 1000);
+    }
+
+    @Test
+    @DisplayName("비동기 송금 접수 성공")
+    void acceptRemittance_success() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(1L))
                 .willReturn(Optional.of(
                         Account.builder()
                                 .id(1L)
-                                .status(AccountStatus.ACTIVE)
-                                .balance(1000)
                                 .user(user)
+                                .status(AccountStatus.ACTIVE)
                                 .build()
                 ));
-        given(accountRepository.findByAccountNumber(anyString()))
+        given(remittanceRequestRepository.save(any()))
+                .willReturn(
+                        RemittanceRequest.builder()
+                                .id(10L)
+                                .user(user)
+                                .status(RemittanceRequestStatus.PENDING)
+                                .build()
+                );
+
+        //when
+        RemittanceStatusDto response = remittanceService.acceptRemittance(
+                new CreateRemittanceDto.Request(1L, "1122334455", 1000), user
+        );
+
+        //then
+        assertEquals(10L, response.remittanceRequestId());
+        assertEquals(RemittanceRequestStatus.PENDING, response.status());
+    }
+
+    @Test
+    @DisplayName("비동기 송금 접수 실패 - 계좌 소유주 다름")
+    void acceptRemittance_fail_accountUserUnMatch() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(1L))
                 .willReturn(Optional.of(
                         Account.builder()
                                 .id(1L)
+                                .user(User.builder().id(2L).build())
                                 .status(AccountStatus.ACTIVE)
                                 .build()
                 ));
 
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> remittanceService.createRemittance(
-                        new CreateRemittanceDto.Request(
-                                1L,
-                                "1122334455",
-                                1000
-                        ), user
+                () -> remittanceService.acceptRemittance(
+                        new CreateRemittanceDto.Request(1L, "1122334455", 1000), user
                 )
         );
 
         //then
-        assertEquals(RemittanceErrorCode.REMITTANCE_AND_RECEIVING_ACCOUNT_SAME, customException.getErrorCode());
+        assertEquals(AccountErrorCode.ACCOUNT_USER_UN_MATCH, customException.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("비동기 송금 처리 - 요청별로 완료/실패 기록")
+    void processRemittanceRequests() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        RemittanceRequest completed = RemittanceRequest.builder()
+                .id(10L)
+                .user(user)
+                .accountId(1L)
+                .receivingAccountNumber("1122334455")
+                .amount(1000)
+                .status(RemittanceRequestStatus.PENDING)
+                .build();
+        RemittanceRequest failed = RemittanceRequest.builder()
+                .id(11L)
+                .user(user)
+                .accountId(1L)
+                .receivingAccountNumber("9999999999")
+                .amount(1000)
+                .status(RemittanceRequestStatus.PENDING)
+                .build();
+        given(remittanceRequestRepository.findPendingByIdsForUpdate(List.of(10L, 11L)))
+                .willReturn(List.of(completed, failed));
+        given(accountNumberResolver.resolve("1122334455"))
+                .willReturn(Optional.of(new ReceivingAccountDto(2L, AccountStatus.ACTIVE)));
+        given(accountNumberResolver.resolve("9999999999"))
+                .willReturn(Optional.empty());
+        given(ledgerService.transfer(1L, 1L, 2L, 1000))
+                .willReturn(Optional.of(0));
+        given(remittanceRepository.save(any()))
+                .willReturn(
+                        Remittance.builder()
+                                .id(100L)
+                                .receivingAccountNumber("1122334455")
+                                .amount(1000)
+                                .accountBalanceSnapshot(0)
+                                .createdAt(LocalDateTime.of(2024, 5, 5, 0, 0))
+                                .build()
+                );
+
+        //when
+        remittanceService.processRemittanceRequests(List.of(10L, 11L));
+
+        //then
+        assertEquals(RemittanceRequestStatus.COMPLETED, completed.getStatus());
+        assertEquals(100L, completed.getRemittanceId());
+        assertEquals(RemittanceRequestStatus.FAILED, failed.getStatus());
+        assertEquals("ACCOUNT_NOT_FOUND", failed.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("비동기 송금 상태 조회 실패 - 요청자 다름")
+    void getRemittanceStatus_fail_userUnMatch() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(remittanceRequestRepository.findById(10L))
+                .willReturn(Optional.of(
+                        RemittanceRequest.builder()
+                                .id(10L)
+                                .user(User.builder().id(2L).build())
+                                .build()
+                ));
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> remittanceService.getRemittanceStatus(10L, user)
+        );
+
+        //then
+        assertEquals(RemittanceErrorCode.REMITTANCE_REQUEST_USER_UN_MATCH, customException.getErrorCode());
     }
 
     @Test
@@ -376,10 +601,10 @@ class RemittanceServiceTest {
                 2024, 5, 5,
                 0, 0
         );
-        List<Remittance> remittanceList = List.of(
-                Remittance.builder()
+        List<RemittanceDto> remittanceList = List.of(
+                RemittanceDto.builder()
                         .receivingAccountNumber("1122334455")
-                        .amount(1000)
+                        .remittanceAmount(1000)
                         .accountBalanceSnapshot(0)
                         .createdAt(createdAt1)
                         .build()
@@ -387,7 +612,7 @@ class RemittanceServiceTest {
         PageRequest pageRequest = PageRequest.of(
                 0, 30, Sort.by(Sort.Direction.DESC, "createdAt")
         );
-        given(remittanceRepository.findAllByAccount(any(), any()))
+        given(remittanceHistoryRouter.findSlice(any(), any()))
                 .willReturn(new SliceImpl<>(remittanceList, pageRequest, false));
 
         //when
@@ -400,6 +625,38 @@ class RemittanceServiceTest {
         assertEquals(createdAt1, remittanceDtoPage.getContent().get(0).createdAt());
     }
 
+    @Test
+    @DisplayName("송금 내역 ETag - 송금액만큼 입금되고 스냅샷이 갱신되어 잔액과 계좌 버전이 그대로여도 새 송금이 있으면 바뀜")
+    void getRemittanceListETag_netZero() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(1L))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(1L)
+                                .user(user)
+                                .balance(1000)
+                                .version(3L)
+                                .build()
+                ));
+        given(remittanceHistoryRouter.findVersion(1L))
+                .willReturn(new RemittanceVersionDto(3L, 120L))
+                .willReturn(new RemittanceVersionDto(4L, 171L));
+
+        //when
+        String before = remittanceService.getRemittanceListETag(1L, user);
+        String after = remittanceService.getRemittanceListETag(1L, user);
+
+        //then
+        assertEquals("remittances-1-3-120", before);
+        assertEquals("remittances-1-4-171", after);
+    }
+
     @Test
     @DisplayName("모든 송금 내역 조회 실패 - 존재하지 않는 계좌")
     void getRemittanceList_fail_AccountNotFound() {
@@ -461,6 +718,215 @@ class RemittanceServiceTest {
         assertEquals(AccountErrorCode.ACCOUNT_USER_UN_MATCH, customException.getErrorCode());
     }
 
+    @Test
+    @DisplayName("커서 기반 송금 내역 첫 페이지 조회")
+    void getRemittanceListByCursor_firstPage() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(1L)
+                                .user(user)
+                                .build()
+                ));
+        LocalDateTime createdAt = LocalDateTime.of(
+                2024, 5, 5,
+                0, 0
+        );
+        given(remittanceHistoryRouter.findAfter(1L, null, 3))
+                .willReturn(List.of(
+                        new RemittanceKeysetDto(3L, "1122334455", 3000, 0, createdAt),
+                        new RemittanceKeysetDto(2L, "1122334455", 2000, 3000, createdAt),
+                        new RemittanceKeysetDto(1L, "1122334455", 1000, 5000, createdAt)
+                ));
+
+        //when
+        RemittanceCursorPageDto page = remittanceService.getRemittanceList("", 2, 1L, user);
+
+        //then
+        assertEquals(2, page.content().size());
+        assertTrue(page.hasNext());
+        assertEquals(new RemittanceCursor(createdAt, 2L), RemittanceCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("커서 기반 송금 내역 다음 페이지 조회")
+    void getRemittanceListByCursor_nextPage() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(1L)
+                                .user(user)
+                                .build()
+                ));
+        LocalDateTime createdAt = LocalDateTime.of(
+                2024, 5, 5,
+                0, 0
+        );
+        given(remittanceHistoryRouter.findAfter(1L, new RemittanceCursor(createdAt, 2L), 3))
+                .willReturn(List.of(
+                        new RemittanceKeysetDto(1L, "1122334455", 1000, 5000, createdAt)
+                ));
+
+        //when
+        RemittanceCursorPageDto page = remittanceService.getRemittanceList(
+                new RemittanceCursor(createdAt, 2L).encode(), 2, 1L, user
+        );
+
+        //then
+        assertEquals(1, page.content().size());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("받은 송금 내역 조회")
+    void getIncomingRemittanceList() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(2L)
+                                .user(user)
+                                .build()
+                ));
+        LocalDateTime createdAt = LocalDateTime.of(
+                2024, 5, 5,
+                0, 0
+        );
+        given(remittanceHistoryRouter.findIncomingAfter(2L, null, 2))
+                .willReturn(List.of(
+                        new IncomingRemittanceKeysetDto(7L, "5544332211", 3000, createdAt),
+                        new IncomingRemittanceKeysetDto(6L, null, 1000, createdAt)
+                ));
+
+        //when
+        IncomingRemittancePageDto page = remittanceService.getIncomingRemittanceList(null, 1, 2L, user);
+
+        //then
+        assertEquals(1, page.content().size());
+        assertEquals("5544332211", page.content().get(0).sendingAccountNumber());
+        assertEquals(3000, page.content().get(0).remittanceAmount());
+        assertTrue(page.hasNext());
+        assertEquals(new RemittanceCursor(createdAt, 7L), RemittanceCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("받은 송금 검색 - 송금 계좌 잔액은 노출하지 않음")
+    void searchRemittances_received() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(2L)
+                                .user(user)
+                                .build()
+                ));
+        RemittanceSearchDto.Request request = new RemittanceSearchDto.Request(
+                RemittanceDirection.RECEIVED, 1000, 5000, "5544", null, 1
+        );
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 5, 0, 0);
+        given(remittanceHistoryRouter.search(2L, request, null, 2))
+                .willReturn(List.of(
+                        new RemittanceSearchKeysetDto(7L, "5544332211", 3000, 7000, createdAt),
+                        new RemittanceSearchKeysetDto(6L, "5544000000", 1000, 10000, createdAt)
+                ));
+
+        //when
+        RemittanceSearchDto.Response response = remittanceService.searchRemittances(request, 2L, user);
+
+        //then
+        assertEquals(1, response.content().size());
+        assertEquals(RemittanceDirection.RECEIVED, response.content().get(0).direction());
+        assertEquals("5544332211", response.content().get(0).counterpartyAccountNumber());
+        assertNull(response.content().get(0).accountBalanceSnapshot());
+        assertTrue(response.hasNext());
+        assertEquals(new RemittanceCursor(createdAt, 7L), RemittanceCursor.decode(response.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("송금 검색 실패 - 최소 금액이 최대 금액보다 큼")
+    void searchRemittances_fail_InvalidAmountRange() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(1L)
+                                .user(user)
+                                .build()
+                ));
+        RemittanceSearchDto.Request request = new RemittanceSearchDto.Request(
+                null, 5000, 1000, null, null, null
+        );
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> remittanceService.searchRemittances(request, 1L, user)
+        );
+
+        //then
+        assertEquals(RemittanceErrorCode.INVALID_REMITTANCE_AMOUNT_RANGE, customException.getErrorCode());
+        verify(remittanceHistoryRouter, never()).search(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("커서 기반 송금 내역 조회 실패 - 잘못된 커서")
+    void getRemittanceListByCursor_fail_InvalidCursor() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(1L)
+                                .user(user)
+                                .build()
+                ));
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> remittanceService.getRemittanceList("invalid", 30, 1L, user)
+        );
+
+        //then
+        assertEquals(RemittanceErrorCode.INVALID_REMITTANCE_CURSOR, customException.getErrorCode());
+    }
+
     @Test
     @DisplayName("기간 내 송금 내역 조회 성공")
     void getRemittanceListBetween_success() {
@@ -482,10 +948,10 @@ class RemittanceServiceTest {
                 2024, 5, 5,
                 0, 0
         );
-        List<Remittance> remittanceList = List.of(
-                Remittance.builder()
+        List<RemittanceDto> remittanceList = List.of(
+                RemittanceDto.builder()
                         .receivingAccountNumber("1122334455")
-                        .amount(1000)
+                        .remittanceAmount(1000)
                         .accountBalanceSnapshot(0)
                         .createdAt(createdAt1)
                         .build()
@@ -493,7 +959,7 @@ class RemittanceServiceTest {
         PageRequest pageRequest = PageRequest.of(
                 0, 30, Sort.by(Sort.Direction.DESC, "createdAt")
         );
-        given(remittanceRepository.findAllByAccountAndCreatedAt(
+        given(remittanceHistoryRouter.findPage(
                 any(), any(), any(), any())
         ).willReturn(new PageImpl<>(remittanceList, pageRequest, 1));
 
@@ -518,6 +984,57 @@ class RemittanceServiceTest {
         assertEquals(createdAt1, remittanceDtoPage.getContent().get(0).createdAt());
     }
 
+    @Test
+    @DisplayName("기간 내 송금 내역 조회 성공 - 일별 집계로 전체 건수 계산")
+    void getRemittanceSlice_success() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(accountRepository.findById(anyLong()))
+                .willReturn(Optional.of(
+                        Account.builder()
+                                .id(1L)
+                                .user(user)
+                                .build()
+                ));
+        LocalDateTime createdAt = LocalDateTime.of(
+                2024, 5, 5,
+                0, 0
+        );
+        PageRequest pageRequest = PageRequest.of(
+                1, 1, Sort.by(Sort.Direction.DESC, "createdAt")
+        );
+        given(remittanceHistoryRouter.findSlice(any(), any(), any(), any()))
+                .willReturn(new SliceImpl<>(List.of(
+                        RemittanceDto.builder()
+                                .receivingAccountNumber("1122334455")
+                                .remittanceAmount(1000)
+                                .accountBalanceSnapshot(0)
+                                .createdAt(createdAt)
+                                .build()
+                ), pageRequest, true));
+        given(dailyRemittanceRollupRepository.sumRemittanceCount(
+                1L, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)
+        )).willReturn(42L);
+
+        //when
+        RemittanceSliceDto remittanceSlice = remittanceService.getRemittanceSlice(
+                pageRequest, 1L, user,
+                LocalDate.of(2024, 5, 1).atStartOfDay(),
+                LocalDate.of(2024, 5, 31).atTime(LocalTime.MAX)
+        );
+
+        //then
+        assertEquals("1122334455", remittanceSlice.content().get(0).receivingAccountNumber());
+        assertEquals(1, remittanceSlice.number());
+        assertTrue(remittanceSlice.hasNext());
+        assertEquals(42L, remittanceSlice.totalElements());
+    }
+
     @Test
     @DisplayName("기간 내 송금 내역 조회 실패 - 존재하지 않는 계좌")
     void getRemittanceListBetween_fail_AccountNotFound() {
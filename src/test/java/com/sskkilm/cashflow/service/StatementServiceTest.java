@@ -0,0 +1,212 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.dto.AccountNumberDto;
+import com.sskkilm.cashflow.dto.RemittanceCursor;
+import com.sskkilm.cashflow.dto.RemittanceKeysetDto;
+import com.sskkilm.cashflow.dto.StatementDto;
+import com.sskkilm.cashflow.dto.StatementEntryDto;
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.GlobalErrorCode;
+import com.sskkilm.cashflow.enums.RemittanceErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class StatementServiceTest {
+
+    private static final LocalDateTime START_DATE = LocalDateTime.of(2024, 5, 1, 0, 0);
+    private static final LocalDateTime END_DATE = LocalDateTime.of(2024, 5, 31, 23, 59);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private RemittanceHistoryRouter remittanceHistoryRouter;
+
+    private StatementService statementService;
+
+    @BeforeEach
+    void setUp() {
+        statementService = new StatementService(accountRepository, remittanceHistoryRouter, 2, 30, 2, 4, 10, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statementService.stop();
+    }
+
+    @Test
+    @DisplayName("계좌별 최신순 송금 내역을 하나의 최신순 목록으로 병합")
+    void getStatement() {
+        //given
+        User user = User.builder().id(1L).build();
+        given(accountRepository.findAccountNumbersByUser(user)).willReturn(List.of(
+                new AccountNumberDto(1L, "1111111111"),
+                new AccountNumberDto(2L, "2222222222")
+        ));
+        RemittanceCursor first = new RemittanceCursor(END_DATE, Long.MAX_VALUE);
+        given(remittanceHistoryRouter.findBetween(1L, START_DATE, first, 3)).willReturn(List.of(
+                remittance(5L, 20),
+                remittance(2L, 10)
+        ));
+        given(remittanceHistoryRouter.findBetween(2L, START_DATE, first, 3)).willReturn(List.of(
+                remittance(4L, 15),
+                remittance(3L, 10),
+                remittance(1L, 5)
+        ));
+
+        //when
+        StatementDto statement = statementService.getStatement(null, 2, user, START_DATE, END_DATE);
+
+        //then
+        assertEquals(List.of("1111111111", "2222222222"),
+                statement.content().stream().map(StatementEntryDto::accountNumber).toList());
+        assertEquals(List.of(20, 15),
+                statement.content().stream().map(StatementEntryDto::createdAt)
+                        .map(LocalDateTime::getDayOfMonth).toList());
+        assertTrue(statement.hasNext());
+        assertEquals(new RemittanceCursor(LocalDateTime.of(2024, 5, 15, 0, 0), 4L),
+                RemittanceCursor.decode(statement.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("같은 시각의 송금은 송금 id 역순으로 병합")
+    void getStatement_sameCreatedAt() {
+        //given
+        User user = User.builder().id(1L).build();
+        given(accountRepository.findAccountNumbersByUser(user)).willReturn(List.of(
+                new AccountNumberDto(1L, "1111111111"),
+                new AccountNumberDto(2L, "2222222222")
+        ));
+        RemittanceCursor after = new RemittanceCursor(LocalDateTime.of(2024, 5, 15, 0, 0), 4L);
+        given(remittanceHistoryRouter.findBetween(eq(1L), eq(START_DATE), eq(after), eq(31)))
+                .willReturn(List.of(remittance(2L, 10)));
+        given(remittanceHistoryRouter.findBetween(eq(2L), eq(START_DATE), eq(after), eq(31)))
+                .willReturn(List.of(remittance(3L, 10), remittance(1L, 5)));
+
+        //when
+        StatementDto statement = statementService.getStatement(after.encode(), 30, user, START_DATE, END_DATE);
+
+        //then
+        assertEquals(List.of("2222222222", "1111111111", "2222222222"),
+                statement.content().stream().map(StatementEntryDto::accountNumber).toList());
+        assertFalse(statement.hasNext());
+    }
+
+    @Test
+    @DisplayName("통합 거래내역 조회 실패 - 조회 기간 1년 초과")
+    void getStatement_periodLimited() {
+        //given
+        User user = User.builder().id(1L).build();
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> statementService.getStatement(null, 30, user, START_DATE.minusYears(1), END_DATE));
+
+        //then
+        assertEquals(RemittanceErrorCode.REMITTANCE_HISTORY_INQUIRY_PERIOD_LIMITED, customException.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("통합 거래내역 조회 실패 - 조회 대기열 가득 참")
+    void getStatement_fail_queueFull() {
+        //given
+        StatementService busyStatementService = new StatementService(
+                accountRepository, remittanceHistoryRouter, 1, 30, 2, 4, 1, 1000
+        );
+        User user = User.builder().id(1L).build();
+        given(accountRepository.findAccountNumbersByUser(user)).willReturn(List.of(
+                new AccountNumberDto(1L, "1111111111"),
+                new AccountNumberDto(2L, "2222222222"),
+                new AccountNumberDto(3L, "3333333333")
+        ));
+        CountDownLatch release = new CountDownLatch(1);
+        // 조회 스레드가 시작되기 전에 거절될 수 있으므로 호출 여부는 검증하지 않음
+        lenient().when(remittanceHistoryRouter.findBetween(any(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return List.of();
+                });
+
+        //when
+        CustomException customException;
+        try {
+            customException = assertThrows(CustomException.class,
+                    () -> busyStatementService.getStatement(null, 30, user, START_DATE, END_DATE));
+        } finally {
+            release.countDown();
+            busyStatementService.stop();
+        }
+
+        //then
+        assertEquals(GlobalErrorCode.SERVER_BUSY, customException.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("통합 거래내역 조회 실패 - 제한 시간 초과")
+    void getStatement_fail_timeout() {
+        //given
+        StatementService slowStatementService = new StatementService(
+                accountRepository, remittanceHistoryRouter, 2, 30, 2, 4, 10, 50
+        );
+        User user = User.builder().id(1L).build();
+        given(accountRepository.findAccountNumbersByUser(user)).willReturn(List.of(
+                new AccountNumberDto(1L, "1111111111")
+        ));
+        CountDownLatch release = new CountDownLatch(1);
+        // 조회 스레드가 시작되기 전에 거절될 수 있으므로 호출 여부는 검증하지 않음
+        lenient().when(remittanceHistoryRouter.findBetween(any(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return List.of();
+                });
+
+        //when
+        CustomException customException;
+        try {
+            customException = assertThrows(CustomException.class,
+                    () -> slowStatementService.getStatement(null, 30, user, START_DATE, END_DATE));
+        } finally {
+            release.countDown();
+            slowStatementService.stop();
+        }
+
+        //then
+        assertEquals(GlobalErrorCode.SERVER_BUSY, customException.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("조회 스레드 수를 지정하지 않으면 커넥션을 계속 잡는 작업을 뺀 커넥션 풀의 절반")
+    void parallelismOf() {
+        assertEquals(12, StatementService.parallelismOf(0, 30, 2, 4));
+        assertEquals(1, StatementService.parallelismOf(0, 6, 2, 4));
+        assertEquals(3, StatementService.parallelismOf(3, 30, 2, 4));
+    }
+
+    private RemittanceKeysetDto remittance(Long remittanceId, int dayOfMonth) {
+        return new RemittanceKeysetDto(
+                remittanceId, "9999999999", 1000, 0, LocalDateTime.of(2024, 5, dayOfMonth, 0, 0)
+        );
+    }
+}
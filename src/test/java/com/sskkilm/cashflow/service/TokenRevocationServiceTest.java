@@ -0,0 +1,152 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.entity.RevokedToken;
+import com.sskkilm.cashflow.enums.UserErrorCode;
+import com.sskkilm.cashflow.exception.CustomException;
+import com.sskkilm.cashflow.repository.RevokedTokenRepository;
+import com.sskkilm.cashflow.util.ClusterJobLock;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private ClusterJobLock clusterJobLock;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, clusterJobLock, 100, 0.01, 60000, 2);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 만료 시각까지 저장하고 바로 폐기된 것으로 판단")
+    void revoke_success() {
+        //given
+        Date expiration = new Date(System.currentTimeMillis() + 60 * 1000L);
+        Claims claims = Jwts.claims().id("jti-1").expiration(expiration).build();
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+
+        //when
+        tokenRevocationService.revoke(claims);
+
+        //then
+        verify(revokedTokenRepository).save(captor.capture());
+        assertEquals("jti-1", captor.getValue().getJti());
+        assertTrue(tokenRevocationService.isRevoked("jti-1"));
+        assertFalse(tokenRevocationService.isRevoked("jti-2"));
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 실패 - jti가 없는 이전 토큰")
+    void revoke_fail_TokenNotRevocable() {
+        //given
+        Claims claims = Jwts.claims().expiration(new Date(System.currentTimeMillis() + 60 * 1000L)).build();
+
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> tokenRevocationService.revoke(claims));
+
+        //then
+        assertEquals(UserErrorCode.TOKEN_NOT_REVOCABLE, customException.getErrorCode());
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("처음 load는 만료되지 않은 jti를 모두 읽고, 이후에는 마지막 폐기 시각 이후에 폐기된 jti만 읽음")
+    void load() {
+        //given
+        LocalDateTime revokedAt = LocalDateTime.now().minusSeconds(1);
+        given(revokedTokenRepository.findAllByExpiresAtAfter(any()))
+                .willReturn(List.of(RevokedToken.builder()
+                        .jti("remote1")
+                        .expiresAt(LocalDateTime.now().plusMinutes(1))
+                        .revokedAt(revokedAt)
+                        .build()));
+        given(revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .willReturn(List.of(RevokedToken.builder()
+                        .jti("remote2")
+                        .expiresAt(LocalDateTime.now().plusMinutes(1))
+                        .revokedAt(LocalDateTime.now())
+                        .build()));
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        //when
+        tokenRevocationService.load();
+        tokenRevocationService.load();
+
+        //then
+        verify(revokedTokenRepository, times(1)).findAllByExpiresAtAfter(any());
+        verify(revokedTokenRepository).findAllByRevokedAtAfterAndExpiresAtAfter(captor.capture(), any());
+        assertTrue(captor.getValue().isBefore(revokedAt));
+        assertTrue(tokenRevocationService.isRevoked("remote1"));
+        assertTrue(tokenRevocationService.isRevoked("remote2"));
+    }
+
+    @Test
+    @DisplayName("rebuild는 테이블을 다시 읽지 않고 만료된 토큰만 제외")
+    void rebuild() {
+        //given
+        tokenRevocationService.revoke(Jwts.claims()
+                .id("local")
+                .expiration(new Date(System.currentTimeMillis() + 60 * 1000L))
+                .build());
+        tokenRevocationService.revoke(Jwts.claims()
+                .id("expired")
+                .expiration(new Date(System.currentTimeMillis() - 1000L))
+                .build());
+
+        //when
+        tokenRevocationService.rebuild();
+
+        //then
+        verify(revokedTokenRepository, never()).findAllByExpiresAtAfter(any());
+        assertTrue(tokenRevocationService.isRevoked("local"));
+        assertFalse(tokenRevocationService.isRevoked("expired"));
+    }
+
+    @Test
+    @DisplayName("만료된 jti 삭제는 잠금을 얻은 서버만 batch 크기씩 나누어 실행")
+    void purgeExpired() {
+        //given
+        given(clusterJobLock.runExclusively(eq("cashflow.revoked-token-purge"), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                })
+                .willReturn(false);
+        given(revokedTokenRepository.deleteExpired(any(), eq(2)))
+                .willReturn(2, 1);
+
+        //when
+        tokenRevocationService.purgeExpired();
+        tokenRevocationService.purgeExpired();
+
+        //then
+        verify(revokedTokenRepository, times(2)).deleteExpired(any(), eq(2));
+    }
+}
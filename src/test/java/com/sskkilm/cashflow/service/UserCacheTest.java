@@ -0,0 +1,69 @@
+package com.sskkilm.cashflow.service;
+
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.Authority;
+import com.sskkilm.cashflow.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, 100);
+    }
+
+    @Test
+    @DisplayName("두번째 조회부터는 캐시된 사용자 반환")
+    void get_cached() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(userRepository.findByLoginId("root"))
+                .willReturn(Optional.of(user));
+
+        //when
+        userCache.get("root");
+        User cached = userCache.get("root");
+
+        //then
+        assertSame(user, cached);
+        verify(userRepository, times(1)).findByLoginId("root");
+    }
+
+    @Test
+    @DisplayName("evict 이후에는 다시 조회")
+    void evict() {
+        //given
+        given(userRepository.findByLoginId("root"))
+                .willReturn(Optional.of(User.builder().id(1L).loginId("root").build()));
+        userCache.get("root");
+
+        //when
+        userCache.evict("root");
+        userCache.get("root");
+
+        //then
+        verify(userRepository, times(2)).findByLoginId("root");
+    }
+}
@@ -14,7 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -30,7 +31,10 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserCache userCache;
 
     @InjectMocks
     private UserService userService;
@@ -47,7 +51,7 @@ class UserServiceTest {
                         .password("root")
                         .role(Authority.ROLE_USER)
                         .build());
-        given(bCryptPasswordEncoder.encode(any()))
+        given(passwordEncoder.encode(any()))
                 .willReturn("root");
 
         //when
@@ -112,4 +116,25 @@ class UserServiceTest {
         assertEquals(HttpStatus.BAD_REQUEST, customException.getErrorCode().getStatus());
         assertEquals(UserErrorCode.USER_NOT_FOUND, customException.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그인시 새 cost로 다시 해시한 비밀번호 저장")
+    void updatePassword() {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .loginId("root")
+                .password("oldHash")
+                .role(Authority.ROLE_USER)
+                .build();
+        given(userRepository.findByLoginId("root"))
+                .willReturn(Optional.of(user));
+
+        //when
+        UserDetails userDetails = userService.updatePassword(user, "newHash");
+
+        //then
+        assertEquals("newHash", userDetails.getPassword());
+        verify(userCache).evict("root");
+    }
+}
@@ -0,0 +1,210 @@
+package com.sskkilm.cashflow.util;
+
+import com.sskkilm.cashflow.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.close();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시하고 검증, 소요 시간 기록")
+    void encodeAndMatches() {
+        //given
+        passwordEncoder = new BoundedPasswordEncoder(4, 1, 10, 3000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+
+        //when
+        String encoded = passwordEncoder.encode("root");
+
+        //then
+        assertTrue(passwordEncoder.matches("root", encoded));
+        assertFalse(passwordEncoder.matches("wrong", encoded));
+        assertEquals(3, registry.get("cashflow.password.hash").timer().count());
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 바로 거절")
+    void encode_fail_Timeout() {
+        //given
+        SlowPasswordEncoder delegate = new SlowPasswordEncoder(0);
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 10, 50);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+        delegate.block();
+
+        //when
+        PasswordHashingRejectedException exception;
+        try {
+            exception = assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.encode("root"));
+        } finally {
+            delegate.release();
+        }
+
+        //then
+        assertEquals("password hashing timed out", exception.getMessage());
+        assertEquals(1.0, registry.get("cashflow.password.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("작업 큐가 가득 차면 바로 거절")
+    void encode_fail_QueueFull() throws Exception {
+        //given
+        SlowPasswordEncoder delegate = new SlowPasswordEncoder(0);
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, 3000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+        delegate.block();
+
+        //when
+        PasswordHashingRejectedException exception;
+        try {
+            fillQueue(delegate, registry, 1);
+            exception = assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.encode("root"));
+        } finally {
+            delegate.release();
+        }
+
+        //then
+        assertEquals("password hashing queue is full", exception.getMessage());
+        assertEquals(1.0, registry.get("cashflow.password.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("대기 작업 수 x 평균 해시 시간이 대기 시간을 넘으면 큐에 넣지 않고 거절")
+    void encode_fail_EstimatedWait() throws Exception {
+        //given
+        SlowPasswordEncoder delegate = new SlowPasswordEncoder(100);
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 10, 150);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+        passwordEncoder.encode("root");
+        delegate.block();
+
+        //when
+        PasswordHashingRejectedException exception;
+        try {
+            fillQueue(delegate, registry, 1);
+            exception = assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.encode("root"));
+        } finally {
+            delegate.release();
+        }
+
+        //then
+        assertEquals("password hashing queue is too long", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("평균 해시 시간이 대기 시간을 넘어도 대기 작업이 없으면 실행해서 평균을 다시 측정")
+    void encode_recoverAfterSlowHash() throws Exception {
+        //given
+        SlowPasswordEncoder delegate = new SlowPasswordEncoder(200);
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 10, 150);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+        assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.encode("root"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (registry.get("cashflow.password.hash").timer().count() < 1) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+        delegate.hashMillis = 0;
+
+        //when
+        String encoded = passwordEncoder.encode("root");
+
+        //then
+        assertEquals("{slow}root", encoded);
+        assertEquals("{slow}root", passwordEncoder.encode("root"));
+        assertEquals(3, registry.get("cashflow.password.hash").timer().count());
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 설정값보다 낮으면 다시 해시 필요")
+    void upgradeEncoding() {
+        //given
+        passwordEncoder = new BoundedPasswordEncoder(5, 1, 10, 3000);
+        BoundedPasswordEncoder weakEncoder = new BoundedPasswordEncoder(4, 1, 10, 3000);
+        String encoded = weakEncoder.encode("root");
+        weakEncoder.close();
+
+        //when
+        //then
+        assertTrue(passwordEncoder.upgradeEncoding(encoded));
+        assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode("root")));
+    }
+
+    // 해시 스레드 하나를 막아둔 상태에서 대기 작업을 queued 개만큼 쌓음
+    private void fillQueue(SlowPasswordEncoder delegate, SimpleMeterRegistry registry, int queued)
+            throws InterruptedException {
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("running"));
+        assertTrue(delegate.started.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < queued; i++) {
+            CompletableFuture.runAsync(() -> passwordEncoder.encode("queued"));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (registry.get("cashflow.password.queue").gauge().value() < queued) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    // hashMillis만큼 걸리는 해시, block() 이후에는 release() 전까지 해시가 끝나지 않음
+    private static class SlowPasswordEncoder implements PasswordEncoder {
+
+        private volatile long hashMillis;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch blocked = new CountDownLatch(0);
+
+        SlowPasswordEncoder(long hashMillis) {
+            this.hashMillis = hashMillis;
+        }
+
+        void block() {
+            blocked = new CountDownLatch(1);
+        }
+
+        void release() {
+            blocked.countDown();
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                Thread.sleep(hashMillis);
+                CountDownLatch latch = blocked;
+                if (latch.getCount() > 0) {
+                    started.countDown();
+                }
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{slow}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.sskkilm.cashflow.util;
+
+import com.sskkilm.cashflow.entity.User;
+import com.sskkilm.cashflow.enums.Authority;
+import com.sskkilm.cashflow.service.UserCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtUtilTest {
+
+    private static final String SECRET = "c3ByaW5nLWJvb3QtY2FzaGZsb3ctcHJvamVjdC1qd3Qtc2VjcmV0LWtleQo=";
+
+    @Mock
+    private UserCache userCache;
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 100, true, userCache);
+    }
+
+    @Test
+    @DisplayName("한번 검증한 토큰은 만료 전까지 캐시된 claims 사용")
+    void verify_cached() {
+        //given
+        String token = jwtUtil.createJwt(1L, "root", "ROLE_USER", 60 * 1000L);
+
+        //when
+        Claims first = jwtUtil.verify(token);
+        Claims second = jwtUtil.verify(token);
+
+        //then
+        assertEquals("root", first.get("loginId", String.class));
+        assertSame(first, second);
+        assertNotNull(first.getId());
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 찼는데 정리할 만료 항목이 없으면 비우고 다시 검증")
+    void verify_cacheFull() {
+        //given
+        JwtUtil smallCacheJwtUtil = new JwtUtil(SECRET, 1, true, userCache);
+        String token1 = smallCacheJwtUtil.createJwt(1L, "root1", "ROLE_USER", 60 * 1000L);
+        String token2 = smallCacheJwtUtil.createJwt(2L, "root2", "ROLE_USER", 60 * 1000L);
+        Claims first = smallCacheJwtUtil.verify(token1);
+
+        //when
+        Claims second = smallCacheJwtUtil.verify(token2);
+
+        //then
+        assertNotSame(first, smallCacheJwtUtil.verify(token1));
+        assertEquals("root2", second.get("loginId", String.class));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 만료된 토큰")
+    void verify_fail_Expired() {
+        //given
+        String token = jwtUtil.createJwt(1L, "root", "ROLE_USER", -1000L);
+
+        //when
+        //then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 다른 키로 서명된 토큰")
+    void verify_fail_InvalidSignature() {
+        //given
+        JwtUtil otherJwtUtil = new JwtUtil(SECRET.replace('c', 'd'), 100, true, userCache);
+        String token = otherJwtUtil.createJwt(1L, "root", "ROLE_USER", 60 * 1000L);
+
+        //when
+        //then
+        assertThrows(SignatureException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    @DisplayName("userId, role claim이 있으면 사용자 조회 없이 principal 생성")
+    void getAuthentication_fromClaims() {
+        //given
+        String token = jwtUtil.createJwt(1L, "root", "ROLE_USER", 60 * 1000L);
+
+        //when
+        Authentication authentication = jwtUtil.getAuthentication(jwtUtil.verify(token));
+
+        //then
+        User user = (User) authentication.getPrincipal();
+        assertEquals(1L, user.getId());
+        assertEquals("root", user.getLoginId());
+        assertEquals(Authority.ROLE_USER, user.getRole());
+        verify(userCache, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("userId claim이 없는 이전 토큰은 사용자 캐시에서 조회")
+    void getAuthentication_legacyToken() {
+        //given
+        String token = jwtUtil.createJwt(null, "root", "ROLE_USER", 60 * 1000L);
+        given(userCache.get("root"))
+                .willReturn(User.builder()
+                        .id(1L)
+                        .loginId("root")
+                        .password("root")
+                        .role(Authority.ROLE_USER)
+                        .build());
+
+        //when
+        Authentication authentication = jwtUtil.getAuthentication(jwtUtil.verify(token));
+
+        //then
+        assertEquals(1L, ((User) authentication.getPrincipal()).getId());
+    }
+}
@@ -0,0 +1,43 @@
+package com.sskkilm.cashflow.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+    void put_evictLeastRecentlyUsed() {
+        //given
+        LruCache<String, Integer> cache = new LruCache<>(2, 1);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        //when
+        cache.put("c", 3);
+
+        //then
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    @DisplayName("세그먼트로 나누어도 전체 크기는 최대 크기를 넘지 않음")
+    void put_segmented() {
+        //given
+        LruCache<Integer, Integer> cache = new LruCache<>(10, 4);
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+
+        //then
+        assertTrue(cache.size() <= 10);
+        assertEquals(999, cache.get(999));
+    }
+}